@@ -0,0 +1,164 @@
+package com.example.tetris_clone;
+
+/**
+ * This class works out when a held left or right key repeats its move - delayed auto shift (DAS) followed by the
+   auto repeat rate (ARR).
+ * Repeats come from the timestamps of the key presses and releases, not from the operating system's key repeat. The
+   first repeat is due 'dasFrameCount' ticks after the key was pressed and each following repeat 'arrFrameCount' ticks
+   after that, measured in nanoseconds, so a repeat is due at the same moment no matter when the ticks that apply it run.
+ * Times are kept in nanoseconds times the tick rate, so frame counts convert to time without rounding.
+ * If both keys are held, the one pressed last repeats. When it is released, the other key starts charging again.
+ */
+
+public class AutoShift
+{
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int ticksPerSecond;                   // The tick rate that frame counts are measured in.
+    private int dasFrameCount;                          // Ticks from a key press to its first repeat.
+    private int arrFrameCount;                          // Ticks between repeats - 0 repeats all the way to the wall at once.
+    private boolean isLeftHeld;                         // Is the left key held or not
+    private boolean isRightHeld;                        // Is the right key held or not
+    private Direction activeDir;                        // The direction that is repeating, or null if neither key is held.
+    private long chargeStartTime;                       // The timestamp that the active direction started charging at.
+    private long repeatsDone;                           // The repeats already returned since the active direction started charging.
+
+    /**
+     * @param newTicksPerSecond The tick rate that frame counts are measured in.
+     * @param newDasFrameCount Ticks from a key press to its first repeat.
+     * @param newArrFrameCount Ticks between repeats, or 0 to repeat all the way to the wall at once.
+     */
+    public AutoShift(int newTicksPerSecond, int newDasFrameCount, int newArrFrameCount)
+    {
+        if (newTicksPerSecond < 1)
+            throw new IllegalArgumentException("Tick rate must be at least 1: " + newTicksPerSecond);
+
+        ticksPerSecond = newTicksPerSecond;
+        setDasFrameCount(newDasFrameCount);
+        setArrFrameCount(newArrFrameCount);
+    }
+
+    /**
+     * A key was pressed. Its first move is applied by the caller - this only starts charging the key's repeats.
+     * @param dir The direction of the key.
+     * @param nanos The System.nanoTime() timestamp of the key press.
+     */
+    public void press(Direction dir, long nanos)
+    {
+        if (dir == Direction.LEFT)
+            isLeftHeld = true;
+        else
+            isRightHeld = true;
+
+        startCharging(dir, nanos);
+    }
+
+    /**
+     * A key was released. Repeats due before 'nanos' should be taken with getMovesDue() first.
+     * @param dir The direction of the key.
+     * @param nanos The System.nanoTime() timestamp of the key release.
+     */
+    public void release(Direction dir, long nanos)
+    {
+        if (dir == Direction.LEFT)
+            isLeftHeld = false;
+        else
+            isRightHeld = false;
+
+        if (dir != activeDir)
+            return;
+
+        if (isLeftHeld)
+            startCharging(Direction.LEFT, nanos);
+        else if (isRightHeld)
+            startCharging(Direction.RIGHT, nanos);
+        else
+            activeDir = null;
+    }
+
+    /**
+     * Forget both keys, so nothing repeats until a key is pressed again. Used while the game is paused or in a menu.
+     */
+    public void reset()
+    {
+        isLeftHeld = false;
+        isRightHeld = false;
+        activeDir = null;
+    }
+
+    /**
+     * Take the repeats that have come due since the last call.
+     * @param nanos The timestamp to count repeats up to.
+     * @return The number of moves to make in getActiveDirection(), or Integer.MAX_VALUE to move all the way to the wall.
+     */
+    public int getMovesDue(long nanos)
+    {
+        if (activeDir == null)
+            return 0;
+
+        long chargedTime = (nanos - chargeStartTime) * ticksPerSecond - dasFrameCount * NANOS_PER_SECOND;
+
+        if (chargedTime < 0)
+            return 0;
+
+        if (arrFrameCount == 0)
+            return Integer.MAX_VALUE;
+
+        long repeats = 1 + chargedTime / (arrFrameCount * NANOS_PER_SECOND);
+        long movesDue = repeats - repeatsDone;
+        repeatsDone = repeats;
+
+        return (int) Math.min(movesDue, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The direction that is repeating, or null if neither key is held.
+     */
+    public Direction getActiveDirection()
+    {
+        return activeDir;
+    }
+
+    /**
+     * @param dir The direction that starts charging.
+     * @param nanos The timestamp that it starts charging at.
+     */
+    private void startCharging(Direction dir, long nanos)
+    {
+        activeDir = dir;
+        chargeStartTime = nanos;
+        repeatsDone = 0;
+    }
+
+    /**
+     * @param newDasFrameCount Ticks from a key press to its first repeat.
+     */
+    public void setDasFrameCount(int newDasFrameCount)
+    {
+        if (newDasFrameCount < 0)
+            throw new IllegalArgumentException("DAS can't be negative: " + newDasFrameCount);
+
+        dasFrameCount = newDasFrameCount;
+    }
+
+    /**
+     * @param newArrFrameCount Ticks between repeats, or 0 to repeat all the way to the wall at once.
+     */
+    public void setArrFrameCount(int newArrFrameCount)
+    {
+        if (newArrFrameCount < 0)
+            throw new IllegalArgumentException("ARR can't be negative: " + newArrFrameCount);
+
+        arrFrameCount = newArrFrameCount;
+    }
+
+    public int getDasFrameCount()
+    {
+        return dasFrameCount;
+    }
+
+    public int getArrFrameCount()
+    {
+        return arrFrameCount;
+    }
+}
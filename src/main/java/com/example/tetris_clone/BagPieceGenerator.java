@@ -0,0 +1,49 @@
+package com.example.tetris_clone;
+
+/**
+ * This class deals the Tetromino types from a shuffled bag of one of each type, reshuffling when the bag is empty.
+ * Every type appears exactly once in each group of 7 pieces, so droughts are at most 12 pieces long.
+ */
+
+public class BagPieceGenerator extends QueuedPieceGenerator
+{
+    private final int[] bag = new int[Constants.NUM_OF_TETROMINOS];    // Type indexes in the order they are dealt.
+    private int bagIndex;                                               // Index of the next type to deal from 'bag'.
+
+    /**
+     * @param queueSize How many pieces ahead peek() can look.
+     */
+    public BagPieceGenerator(int queueSize)
+    {
+        super(queueSize);
+    }
+
+    @Override
+    protected void restart()
+    {
+        for (int type = 0; type < bag.length; type++)
+            bag[type] = type;
+
+        bagIndex = bag.length;
+    }
+
+    @Override
+    protected TileType generate()
+    {
+        if (bagIndex == bag.length)
+        {
+            // Fisher-Yates shuffle, in place.
+            for (int index = bag.length - 1; index > 0; index--)
+            {
+                int swapIndex = random.nextInt(index + 1);
+                int temp = bag[index];
+                bag[index] = bag[swapIndex];
+                bag[swapIndex] = temp;
+            }
+
+            bagIndex = 0;
+        }
+
+        return Tetromino.getTypeAt(bag[bagIndex++]);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.tetris_clone;
+
+/**
+ * This class is an immutable copy of the game board, used for undo and for branching game states in searches.
+ * Each row's bitboard words and TileTypes are stored in their own arrays, and those arrays are never modified once a
+   snapshot has been created, so snapshots share every row that they have in common. Creating a child snapshot only
+   copies the rows that change, plus the array of row references.
+ */
+
+public final class BoardSnapshot
+{
+    private final int rows;                     // The number of rows in the game board.
+    private final int cols;                     // The number of columns in the game board.
+    private final int[][] rowWords;             // The bitboard words of each row - shared between snapshots.
+    private final TileType[][] rowTypes;        // The TileType of each placed Tile in each row - shared between snapshots.
+    private final int[] emptyRowWords;          // The words of an empty row - shared by every empty row.
+    private final TileType[] emptyRowTypes;     // The TileTypes of an empty row - shared by every empty row.
+    private final int[] fullRowWords;           // The words of a row whose Tiles are all placed.
+    private final int rowsCleared;              // The number of rows cleared when this snapshot was created by withPiece().
+
+    /**
+     * Create a snapshot from row arrays that will never be modified again.
+     * @param newRowWords The bitboard words of each row.
+     * @param newRowTypes The TileTypes of each row.
+     * @param newEmptyRowWords The words of an empty row.
+     * @param newEmptyRowTypes The TileTypes of an empty row.
+     * @param newFullRowWords The words of a full row.
+     * @param newRowsCleared The number of rows cleared to create this snapshot.
+     */
+    BoardSnapshot(int[][] newRowWords, TileType[][] newRowTypes, int[] newEmptyRowWords, TileType[] newEmptyRowTypes, int[] newFullRowWords, int newRowsCleared)
+    {
+        rows = newRowWords.length;
+        cols = newEmptyRowTypes.length;
+        rowWords = newRowWords;
+        rowTypes = newRowTypes;
+        emptyRowWords = newEmptyRowWords;
+        emptyRowTypes = newEmptyRowTypes;
+        fullRowWords = newFullRowWords;
+        rowsCleared = newRowsCleared;
+    }
+
+    /**
+     * Create a new snapshot with 'tetromino' placed on the board and any rows it fills cleared.
+     * Only the rows that the Tetromino lands in are copied - every other row is shared with this snapshot.
+     * @param tetromino A Tetromino in a position where it does not collide with the board.
+     * @return The new snapshot.
+     */
+    public BoardSnapshot withPiece(Tetromino tetromino)
+    {
+        int[][] newRowWords = rowWords.clone();
+        TileType[][] newRowTypes = rowTypes.clone();
+        boolean hasFullRow = false;
+
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+        {
+            int row = tetromino.getTileRow(tile);
+            int col = tetromino.getTileCol(tile);
+
+            // Copy each row the first time the Tetromino touches it.
+            if (newRowWords[row] == rowWords[row])
+            {
+                newRowWords[row] = rowWords[row].clone();
+                newRowTypes[row] = rowTypes[row].clone();
+            }
+
+            newRowWords[row][col / GameData.WORD_SIZE] |= 1 << (col % GameData.WORD_SIZE);
+            newRowTypes[row][col] = tetromino.getTetrominoType();
+        }
+
+        // Only the rows the Tetromino landed in can have become full.
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+            hasFullRow |= isFull(newRowWords[tetromino.getTileRow(tile)]);
+
+        if (!hasFullRow)
+            return new BoardSnapshot(newRowWords, newRowTypes, emptyRowWords, emptyRowTypes, fullRowWords, 0);
+
+        // Drop the surviving rows by moving their references, from the bottom up, and fill the top with empty rows.
+        int targetRow = rows - 1;
+
+        for (int row = rows - 1; row >= 0; row--)
+        {
+            if (isFull(newRowWords[row]))
+                continue;
+
+            newRowWords[targetRow] = newRowWords[row];
+            newRowTypes[targetRow] = newRowTypes[row];
+            targetRow--;
+        }
+
+        for (int row = targetRow; row >= 0; row--)
+        {
+            newRowWords[row] = emptyRowWords;
+            newRowTypes[row] = emptyRowTypes;
+        }
+
+        return new BoardSnapshot(newRowWords, newRowTypes, emptyRowWords, emptyRowTypes, fullRowWords, targetRow + 1);
+    }
+
+    /**
+     * @param words The words of a row.
+     * @return Whether every Tile in the row is placed.
+     */
+    private boolean isFull(int[] words)
+    {
+        for (int word = 0; word < words.length; word++)
+        {
+            if (words[word] != fullRowWords[word])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param row The row to check.
+     * @param col The column to check.
+     * @return Whether the cell holds a placed Tile.
+     */
+    public boolean isOccupied(int row, int col)
+    {
+        return (rowWords[row][col / GameData.WORD_SIZE] & (1 << (col % GameData.WORD_SIZE))) != 0;
+    }
+
+    /**
+     * Cells outside of the game board count as collisions.
+     * @param row The row to check.
+     * @param col The column to check.
+     * @return Whether the cell is outside the game board or holds a placed Tile.
+     */
+    public boolean collides(int row, int col)
+    {
+        if (row < 0 || row >= rows || col < 0 || col >= cols)
+            return true;
+
+        return isOccupied(row, col);
+    }
+
+    /**
+     * @param row The row of the Tile.
+     * @param col The column of the Tile.
+     * @return The TileType of the placed Tile, or EMPTY.
+     */
+    public TileType getTileType(int row, int col)
+    {
+        return rowTypes[row][col];
+    }
+
+    /**
+     * @return The number of rows cleared when this snapshot was created by withPiece().
+     */
+    public int getRowsCleared()
+    {
+        return rowsCleared;
+    }
+
+    /**
+     * @return The number of rows in the game board.
+     */
+    public int getRows()
+    {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the game board.
+     */
+    public int getCols()
+    {
+        return cols;
+    }
+
+    /**
+     * @param row The row to get.
+     * @return The bitboard words of the row. Must not be modified.
+     */
+    int[] getRowWords(int row)
+    {
+        return rowWords[row];
+    }
+
+    /**
+     * @param row The row to get.
+     * @return The TileTypes of the row. Must not be modified.
+     */
+    TileType[] getRowTypes(int row)
+    {
+        return rowTypes[row];
+    }
+}
@@ -6,26 +6,51 @@ package com.example.tetris_clone;
 
 public class Constants
 {
-    // Frames
-    public static final float FRAME_RATE = 1/60f;
-    public static final int DELAY_FRAME_COUNT = 30;
+    // Frames - game logic runs in fixed ticks, and every frame count below is a number of ticks.
+    public static final int TICKS_PER_SECOND = 60;
+    public static final int MAX_CATCH_UP_TICKS = 5;             // The most ticks run for one rendered frame after a stall.
+    public static final int INPUT_QUEUE_CAPACITY = 256;         // The most key presses that can wait for the next tick.
+    public static final int STATS_OVERLAY_TICK_COUNT = 30;      // Ticks between updates of the on-screen stats overlay.
+    public static final int DELAY_FRAME_COUNT = 30;             // Ticks a landed Tetromino waits before it locks.
+    public static final int LOCK_DELAY_RESET_LIMIT = 15;        // Moves and rotations that can restart lock delay, per lowest row a Tetromino lands on.
     public static final int ANIMATION_FRAME_COUNT = 3;
+    public static final int SOFT_DROP_FACTOR = 24;              // Times faster than gravity while soft dropping - 2 ticks per row at level 0.
+    public static final int DAS_FRAME_COUNT = 10;               // Ticks from holding left or right to its first auto-repeated move.
+    public static final int ARR_FRAME_COUNT = 2;                // Ticks between auto-repeated moves - 0 moves straight to the wall.
+
+    // Ticks between drops of the current Tetromino at each level - the NES curve. Levels past the end use the last entry.
+    public static final int[] GRAVITY_FRAME_COUNTS =
+    {
+        48, 43, 38, 33, 28, 23, 18, 13, 8, 6,       // Levels 0 - 9
+        5, 5, 5, 4, 4, 4, 3, 3, 3, 2,               // Levels 10 - 19
+        2, 2, 2, 2, 2, 2, 2, 2, 2, 1                // Levels 20 - 29
+    };
+
+    // Debugging
+    public static final LogLevel EVENT_LOG_LEVEL = LogLevel.INFO;       // The starting level of the EventLog.
+    public static final String EVENT_LOG_FILE = "tetris_events.log";    // The EventLog drains to this file.
+    public static final String FRAME_STATS_FILE = "frame_stats.csv";    // Game loop timings are appended here after each game.
+
+    // Rendering
+    public static final RenderMode RENDER_MODE = RenderMode.CANVAS;     // How the game canvas is rendered.
 
     // GUI size
     public static final int GUI_WIDTH = 1280;
     public static final int GUI_HEIGHT = 960;
+    public static final int STATS_OVERLAY_HEIGHT = 24;          // Height in pixels of the on-screen stats overlay.
 
     // Tile size
     public static final int TILE_SIZE = 32;
 
     // Tetromino constants
     public static final int NUM_OF_TETROMINOS = 7;
-    public static final int CURRENT_TETROMINO_STARTING_X = 576;
-    public static final int CURRENT_TETROMINO_STARTING_Y = 224;
+    public static final int PIECE_QUEUE_SIZE = 8;               // How many pieces ahead of the next Tetromino can be previewed.
+    public static final int CURRENT_TETROMINO_STARTING_ROW = 0;
+    public static final int NEXT_TETROMINO_STARTING_ROW = 0;
+    public static final int NEXT_TETROMINO_STARTING_COL = 0;
     public static final int NEXT_TETROMINO_STARTING_X = 1024;
     public static final int NEXT_TETROMINO_STARTING_Y = 384;
     public static final int LINES_REQ_FOR_TETRIS = 4;
-    public static final float TIME_BTWN_SOFT_DROPS = 0.03f;
 
     // Tile Board constants
     public static final int GAMEBOARD_STARTING_X = 480;
@@ -91,7 +116,7 @@ public class Constants
     public static final int TETRIS_ENDING_Y = 97;
     public static final int TETRIS_X_INCREMENT = TILE_SIZE;
     public static final int TETRIS_Y_INCREMENT = 1;
-    public static final float TETRIS_CHAR_ROTATE_SPEED = 1/4f;
+    public static final int TETRIS_CHAR_ROTATE_TICK_COUNT = 15;  // Ticks between rotations of the golden TETRIS chars.
 
     // Constants for player name display
     public static final int PLAYER_NAME_STARTING_X = 593;
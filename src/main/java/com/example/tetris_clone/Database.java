@@ -31,9 +31,9 @@ public class Database
             try
             {
                 if (dbFile.createNewFile())
-                    System.out.println("Database file created successfully.");
+                    EventLog.log(LogEvent.DATABASE_FILE_CREATED, 0);
                 else
-                    System.out.println("ERROR! Database file could not be created.");
+                    EventLog.log(LogEvent.DATABASE_FILE_NOT_CREATED, 0);
             }
             catch (IOException e)
             {
@@ -41,7 +41,7 @@ public class Database
             }
         }
         else
-            System.out.println("Database file exists.");
+            EventLog.log(LogEvent.DATABASE_FILE_EXISTS, 0);
 
         //File dbFile = new File(FILENAME);
 
@@ -59,15 +59,13 @@ public class Database
             PreparedStatement preparedStatement = connection.prepareStatement(createTableSQL);
             preparedStatement.executeUpdate();
 
-            System.out.println("Table 'top_players' created successfully.");
-
             preparedStatement = connection.prepareStatement(existenceCheckSQL);
             ResultSet resultSet = preparedStatement.executeQuery();
 
             if (resultSet.next())
             {
                 int rowCount = resultSet.getInt(1);
-                System.out.println("Number of rows in the table: " + rowCount);
+                EventLog.log(LogEvent.DATABASE_TABLE_READY, rowCount);
 
                 if (rowCount == 0)
                 {
@@ -117,7 +115,7 @@ public class Database
             {
                 try (PreparedStatement prepStatement = connection.prepareStatement(updateSQL))
                 {
-                    System.out.println("DB: " + topPlayers[i - 1].getName() + ", " + topPlayers[i - 1].getScore());
+                    EventLog.log(LogEvent.DATABASE_ENTRY_SAVED, topPlayers[i - 1].getName(), topPlayers[i - 1].getScore());
                     prepStatement.setString(1, topPlayers[i - 1].getName());
                     prepStatement.setInt(2, topPlayers[i - 1].getScore());
                     prepStatement.setInt(3, i);
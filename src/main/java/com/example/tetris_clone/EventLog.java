@@ -0,0 +1,248 @@
+package com.example.tetris_clone;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class is a structured event log that never blocks or allocates on the thread that logs.
+ * Each entry - a timestamp, a LogEvent, an optional existing String, and a number - is written into a preallocated
+   ring buffer, and a background thread drains the buffer to a file. Any thread can log. Slots are claimed with a
+   compare-and-set on the tail, and each slot's sequence number tells the drain thread when its entry is complete.
+ * When the buffer is full, new entries are dropped and counted rather than waiting for the drain thread.
+ * Events below the current level cost one volatile read, and the level can be changed at any time.
+ */
+
+public final class EventLog
+{
+    private static final int CAPACITY = 1 << 14;                        // Number of entries the buffer holds.
+    private static final int MASK = CAPACITY - 1;
+    private static final long DRAIN_INTERVAL_NANOS = 10_000_000L;       // How long the drain thread sleeps when the buffer is empty.
+
+    // Entry fields, one slot per entry. A slot's sequence is its claim index once it is free to write, and one more than
+    // that once its entry is complete and can be read.
+    private static final long[] times = new long[CAPACITY];
+    private static final LogEvent[] events = new LogEvent[CAPACITY];
+    private static final String[] texts = new String[CAPACITY];
+    private static final long[] values = new long[CAPACITY];
+    private static final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+
+    private static final AtomicLong tail = new AtomicLong();           // Claim index of the next entry to write.
+    private static final AtomicLong droppedCount = new AtomicLong();   // Entries dropped because the buffer was full.
+    private static long head;                                           // Claim index of the next entry to drain - drain side only.
+    private static volatile int level = Constants.EVENT_LOG_LEVEL.ordinal();
+    private static Thread drainThread;                                  // Writes entries to the log file, once started.
+    private static volatile boolean isRunning;                          // Should the drain thread keep running or not
+
+    static
+    {
+        for (int slot = 0; slot < CAPACITY; slot++)
+            sequences.set(slot, slot);
+    }
+
+    private EventLog()
+    {
+    }
+
+    /**
+     * Set which events are logged. OFF makes every log call return right away.
+     * @param newLevel The most detailed level to log.
+     */
+    public static void setLevel(LogLevel newLevel)
+    {
+        level = newLevel.ordinal();
+    }
+
+    /**
+     * @param event An event.
+     * @return Whether the event would be logged at the current level.
+     */
+    public static boolean isEnabled(LogEvent event)
+    {
+        return event.getLevel().ordinal() <= level;
+    }
+
+    /**
+     * @param event The event to log.
+     * @param value A number describing the event.
+     */
+    public static void log(LogEvent event, long value)
+    {
+        log(event, null, value);
+    }
+
+    /**
+     * @param event The event to log.
+     * @param text A String that already exists, such as a player name - it is stored by reference, not copied.
+     * @param value A number describing the event.
+     */
+    public static void log(LogEvent event, String text, long value)
+    {
+        if (event.getLevel().ordinal() > level)
+            return;
+
+        long claim = tail.get();
+
+        while (true)
+        {
+            int slot = (int) (claim & MASK);
+            long sequence = sequences.get(slot);
+
+            if (sequence == claim)
+            {
+                if (tail.compareAndSet(claim, claim + 1))
+                    break;
+
+                claim = tail.get();
+            }
+            else if (sequence < claim)
+            {
+                // The slot still holds an entry from one lap ago, so the buffer is full.
+                droppedCount.incrementAndGet();
+                return;
+            }
+            else
+                claim = tail.get();
+        }
+
+        int slot = (int) (claim & MASK);
+        times[slot] = System.nanoTime();
+        events[slot] = event;
+        texts[slot] = text;
+        values[slot] = value;
+        sequences.set(slot, claim + 1);
+    }
+
+    /**
+     * Start the background thread that drains the buffer to a file. Does nothing if it is already running.
+     * @param path The log file - entries are appended to it.
+     */
+    public static synchronized void start(Path path)
+    {
+        if (drainThread != null)
+            return;
+
+        isRunning = true;
+        drainThread = new Thread(() -> drainUntilStopped(path), "event-log");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Stop the drain thread after it has written every entry that is already in the buffer.
+     */
+    public static synchronized void stop()
+    {
+        if (drainThread == null)
+            return;
+
+        isRunning = false;
+        LockSupport.unpark(drainThread);
+
+        try
+        {
+            drainThread.join();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        drainThread = null;
+    }
+
+    /**
+     * Run on the drain thread - write entries as they are completed, and sleep briefly whenever the buffer is empty.
+     * @param path The log file.
+     */
+    private static void drainUntilStopped(Path path)
+    {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND))
+        {
+            long reportedDropCount = 0;
+
+            while (isRunning)
+            {
+                if (drain(writer) == 0)
+                {
+                    reportedDropCount = reportDrops(writer, reportedDropCount);
+                    writer.flush();
+                    LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+                }
+            }
+
+            drain(writer);
+            reportDrops(writer, reportedDropCount);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Could not write event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write how many entries have been dropped since the last report, if any.
+     * @param writer The log file writer.
+     * @param reportedDropCount The number of dropped entries already reported.
+     * @return The number of dropped entries reported so far.
+     * @throws IOException If the log file could not be written.
+     */
+    private static long reportDrops(BufferedWriter writer, long reportedDropCount) throws IOException
+    {
+        long dropCount = droppedCount.get();
+
+        if (dropCount != reportedDropCount)
+        {
+            writer.write("Event log buffer was full, dropped entries: " + (dropCount - reportedDropCount));
+            writer.newLine();
+        }
+
+        return dropCount;
+    }
+
+    /**
+     * Write every completed entry, in the order they were claimed, up to the first entry that is still being written.
+     * @param writer The log file writer.
+     * @return The number of entries written.
+     * @throws IOException If the log file could not be written.
+     */
+    private static int drain(BufferedWriter writer) throws IOException
+    {
+        int count = 0;
+
+        while (sequences.get((int) (head & MASK)) == head + 1)
+        {
+            int slot = (int) (head & MASK);
+
+            writer.write(Long.toString(times[slot]));
+            writer.write(' ');
+            writer.write(events[slot].getLevel().name());
+            writer.write(' ');
+            writer.write(events[slot].getMessage());
+
+            if (texts[slot] != null)
+            {
+                writer.write(' ');
+                writer.write(texts[slot]);
+            }
+
+            writer.write(' ');
+            writer.write(Long.toString(values[slot]));
+            writer.newLine();
+
+            // Drop references so the slot doesn't keep them alive, then free the slot for the next lap.
+            events[slot] = null;
+            texts[slot] = null;
+            sequences.set(slot, head + CAPACITY);
+            head++;
+            count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.tetris_clone;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class records how long each pulse of the game loop spends on game logic and on rendering, how much the time
+   between pulses changes from one pulse to the next, and how long each key press takes to show up on screen, into
+   Histograms.
+ * Jitter is measured against the previous pulse interval rather than one tick, since pulses follow the display's refresh
+   rate - a steady 120 or 144 Hz display has no jitter.
+ * Recording never allocates, so it can stay on in every build. The summary can be read as p50/p99/max and is appended
+   to a CSV file at the end of each game, on a background thread.
+ */
+
+public class FrameStats
+{
+    private static final String CSV_HEADER = "game_end_epoch_ms,metric,count,p50_us,p99_us,max_us";
+    private static final int MAX_PENDING_INPUTS = 16;  // Inputs that can wait for the same draw - any more are not measured.
+    private static final long WRITE_TIMEOUT_MILLIS = 1000;  // How long finishWrites() waits for CSV rows to be written.
+
+    // Writes CSV rows in the order they were appended, so the file I/O never runs on the JavaFX application thread.
+    private static final ExecutorService csvWriter = Executors.newSingleThreadExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "frame-stats");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Histogram logicTimes;         // Time spent running ticks in each pulse.
+    private final Histogram renderTimes;        // Time spent rendering in each pulse.
+    private final Histogram pulseJitters;       // Distance between each pulse interval and the one before it.
+    private final Histogram inputLatencies;     // Time from each key press to the first Tetromino draw after it.
+    private final long[] pendingInputTimes;     // Timestamps of the key presses that have not been drawn yet.
+    private int numOfPendingInputs;             // The number of timestamps stored in 'pendingInputTimes'.
+    private long lastPulseTime;                 // The timestamp of the previous pulse, or 0 before the first pulse.
+    private long lastPulseInterval;             // The time between the previous two pulses, or 0 before the second pulse.
+
+    public FrameStats()
+    {
+        logicTimes = new Histogram("logic");
+        renderTimes = new Histogram("render");
+        pulseJitters = new Histogram("jitter");
+        inputLatencies = new Histogram("input_latency");
+        pendingInputTimes = new long[MAX_PENDING_INPUTS];
+    }
+
+    /**
+     * Record the time between this pulse and the previous one, as its distance from the time between the two before.
+     * @param now The timestamp of the pulse, in nanoseconds.
+     */
+    public void recordPulse(long now)
+    {
+        if (lastPulseTime != 0)
+        {
+            long interval = now - lastPulseTime;
+
+            if (lastPulseInterval != 0)
+                pulseJitters.record(Math.abs(interval - lastPulseInterval));
+
+            lastPulseInterval = interval;
+        }
+
+        lastPulseTime = now;
+    }
+
+    /**
+     * @param nanos Time spent running ticks in one pulse.
+     */
+    public void recordLogicTime(long nanos)
+    {
+        logicTimes.record(nanos);
+    }
+
+    /**
+     * @param nanos Time spent rendering in one pulse.
+     */
+    public void recordRenderTime(long nanos)
+    {
+        renderTimes.record(nanos);
+    }
+
+    /**
+     * Remember when a key press that changes the current Tetromino was handled, until the Tetromino is next drawn.
+     * @param nanos The System.nanoTime() timestamp of the key press.
+     */
+    public void recordInput(long nanos)
+    {
+        if (numOfPendingInputs < MAX_PENDING_INPUTS)
+            pendingInputTimes[numOfPendingInputs++] = nanos;
+    }
+
+    /**
+     * Record the latency of every key press since the last Tetromino draw, now that a draw reflects them.
+     * @param now The System.nanoTime() timestamp just after the Tetromino was drawn.
+     */
+    public void recordTetrominoDrawn(long now)
+    {
+        for (int input = 0; input < numOfPendingInputs; input++)
+            inputLatencies.record(now - pendingInputTimes[input]);
+
+        numOfPendingInputs = 0;
+    }
+
+    /**
+     * Append a p50/p99/max row for each histogram to a CSV file, writing the header first if the file is new, and
+       then reset the histograms for the next game.
+     * The rows are built here, and written to the file on a background thread. A failed write is logged to the EventLog.
+     * @param path The CSV file.
+     */
+    public void appendCsv(Path path)
+    {
+        long gameEndTime = System.currentTimeMillis();
+        StringBuilder rows = new StringBuilder();
+
+        for (Histogram histogram : new Histogram[] {logicTimes, renderTimes, pulseJitters, inputLatencies})
+        {
+            rows.append(gameEndTime).append(',').append(histogram.getName()).append(',').append(histogram.getTotalCount())
+                    .append(',').append(toMicros(histogram.getPercentile(50))).append(',').append(toMicros(histogram.getPercentile(99)))
+                    .append(',').append(toMicros(histogram.getMaxValue())).append(System.lineSeparator());
+        }
+
+        String csvRows = rows.toString();
+        csvWriter.execute(() -> writeCsv(path, csvRows));
+        reset();
+    }
+
+    /**
+     * Run on the CSV writer thread - append rows to a CSV file, writing the header first if the file is new.
+     * @param path The CSV file.
+     * @param csvRows The rows to append, each ending with a line separator.
+     */
+    private static void writeCsv(Path path, String csvRows)
+    {
+        boolean isNewFile = !Files.exists(path);
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))
+        {
+            if (isNewFile)
+                writer.println(CSV_HEADER);
+
+            writer.print(csvRows);
+
+            if (writer.checkError())
+                EventLog.log(LogEvent.FRAME_STATS_NOT_WRITTEN, path.toString(), 0);
+        }
+        catch (IOException e)
+        {
+            EventLog.log(LogEvent.FRAME_STATS_NOT_WRITTEN, path.toString(), 0);
+        }
+    }
+
+    /**
+     * Wait for the CSV rows of every game that has ended to be written, and stop the CSV writer thread. Called when the
+       application exits.
+     */
+    public static void finishWrites()
+    {
+        csvWriter.shutdown();
+
+        try
+        {
+            csvWriter.awaitTermination(WRITE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return A one line summary of input latency, for the on-screen stats overlay.
+     */
+    public String getInputLatencySummary()
+    {
+        return "Input latency  p50 " + toMillis(inputLatencies.getPercentile(50)) + " ms  p99 " + toMillis(inputLatencies.getPercentile(99))
+                + " ms  max " + toMillis(inputLatencies.getMaxValue()) + " ms  (" + inputLatencies.getTotalCount() + " inputs)";
+    }
+
+    /**
+     * @param nanos A time in nanoseconds.
+     * @return The time in milliseconds, to 1 decimal place.
+     */
+    private static String toMillis(long nanos)
+    {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * @param nanos A time in nanoseconds.
+     * @return The time in microseconds, to 1 decimal place.
+     */
+    private static String toMicros(long nanos)
+    {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000.0);
+    }
+
+    /**
+     * Forget every recorded value.
+     */
+    public void reset()
+    {
+        logicTimes.reset();
+        renderTimes.reset();
+        pulseJitters.reset();
+        inputLatencies.reset();
+        numOfPendingInputs = 0;
+        lastPulseTime = 0;
+        lastPulseInterval = 0;
+    }
+
+    public Histogram getLogicTimes()
+    {
+        return logicTimes;
+    }
+
+    public Histogram getRenderTimes()
+    {
+        return renderTimes;
+    }
+
+    public Histogram getPulseJitters()
+    {
+        return pulseJitters;
+    }
+
+    public Histogram getInputLatencies()
+    {
+        return inputLatencies;
+    }
+}
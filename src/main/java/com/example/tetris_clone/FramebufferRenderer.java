@@ -0,0 +1,190 @@
+package com.example.tetris_clone;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.util.Callback;
+import java.nio.IntBuffer;
+
+/**
+ * This class is a TetrisRenderer that composes the game canvas - the background, game board, next display and HUD - in
+   a preallocated framebuffer instead of drawing each sprite to the canvas.
+ * Sprite pixels are cut out of the sprite sheets once, and each sprite is drawn by copying its rows into the
+   framebuffer's int array. present() then hands only the changed rectangle to JavaFX and shows it with a single
+   drawImage, so the canvas gets one command per frame instead of one per Tile.
+ * The framebuffer is a WritableImage backed by a PixelBuffer, whose IntBuffer is written directly - JavaFX doesn't allow
+   a PixelWriter on such an image, and the rows are copied just as setPixels would copy them.
+ * The Tetromino, menu and overlay canvases are drawn to the same way as by TetrisRenderer.
+ */
+
+public class FramebufferRenderer extends TetrisRenderer
+{
+    private final int width;                            // Width of the framebuffer in pixels - the width of the game canvas.
+    private final int height;                           // Height of the framebuffer in pixels.
+    private final int tileSize;
+    private final int[] pixels;                         // The framebuffer's premultiplied ARGB pixels, row by row.
+    private final PixelBuffer<IntBuffer> pixelBuffer;   // Tells JavaFX which part of 'pixels' has changed.
+    private final WritableImage framebuffer;            // The Image that shows 'pixels'.
+    private final int[][][][] spritePixels;             // The pixels of each sprite sheet cell, indexed by [image index][row][column].
+    private final int[][] boardSpritePixels;            // The pixels of each game board and Tetromino TileType's sprite, indexed by TileType.ordinal().
+    private int dirtyMinX;                              // The changed rectangle since the last present() - empty when
+    private int dirtyMinY;                              // 'dirtyMinX' is not less than 'dirtyMaxX'. The max values are
+    private int dirtyMaxX;                              // exclusive.
+    private int dirtyMaxY;
+    private Rectangle2D presentedRect;                  // The rectangle handed to JavaFX by the last present() - kept, since
+                                                        // the same part of the framebuffer usually changes every frame.
+    private final Callback<PixelBuffer<IntBuffer>, Rectangle2D> presentedRegion = buffer -> presentedRect;
+
+    public FramebufferRenderer()
+    {
+        tileSize = Constants.TILE_SIZE;
+        width = Constants.GUI_WIDTH;
+        height = Constants.GUI_HEIGHT;
+
+        IntBuffer buffer = IntBuffer.allocate(width * height);
+        pixels = buffer.array();
+        pixelBuffer = new PixelBuffer<>(width, height, buffer, PixelFormat.getIntArgbPreInstance());
+        framebuffer = new WritableImage(pixelBuffer);
+        clearDirtyRect();
+        presentedRect = Rectangle2D.EMPTY;
+
+        // Cut every sprite out of the sprite sheets once, so that drawing one is just copying rows of ints.
+        spritePixels = new int[SPRITE_SHEETS[SPRITE_SHEETS.length - 1] + 1][][][];
+
+        for (int sheet : SPRITE_SHEETS)
+        {
+            Image spriteSheet = getGameImage(sheet);
+            int rows = (int) spriteSheet.getHeight() / tileSize;
+            int cols = (int) spriteSheet.getWidth() / tileSize;
+            spritePixels[sheet] = new int[rows][cols][];
+
+            for (int row = 0; row < rows; row++)
+            {
+                for (int col = 0; col < cols; col++)
+                    spritePixels[sheet][row][col] = readPixels(spriteSheet, col * tileSize, row * tileSize);
+            }
+        }
+
+        TileType[] types = TileType.values();
+        boardSpritePixels = new int[types.length][];
+
+        for (TileType type : types)
+            boardSpritePixels[type.ordinal()] = readPixels(getBoardSprite(type), 0, 0);
+
+        changeBackgroundImage(0);
+    }
+
+    /**
+     * Copy a background image into the framebuffer.
+     * @param index The index of the desired Images in 'gameImages'.
+     */
+    @Override
+    public void changeBackgroundImage(int index)
+    {
+        getGameImage(index).getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), pixels, 0, width);
+        addDirtyRect(0, 0, width, height);
+    }
+
+    /**
+     * Sprites for the game canvas are copied into the framebuffer - every other canvas is drawn to directly.
+     */
+    @Override
+    protected void drawSprite(GraphicsContext gc, int spriteSheet, int spriteX, int spriteY, double x, double y)
+    {
+        if (gc == getGameGC())
+            copySprite(spritePixels[spriteSheet][spriteY / tileSize][spriteX / tileSize], (int) x, (int) y);
+        else
+            super.drawSprite(gc, spriteSheet, spriteX, spriteY, x, y);
+    }
+
+    /**
+     * Sprites for the game canvas are copied into the framebuffer - every other canvas is drawn to directly.
+     */
+    @Override
+    protected void drawBoardSprite(GraphicsContext gc, TileType type, double x, double y)
+    {
+        if (gc == getGameGC())
+            copySprite(boardSpritePixels[type.ordinal()], (int) x, (int) y);
+        else
+            super.drawBoardSprite(gc, type, x, y);
+    }
+
+    /**
+     * Hand the part of the framebuffer changed since the last call to JavaFX, and draw it to the game canvas.
+     * A new Rectangle2D is only made when the changed rectangle differs from the last one presented.
+     */
+    @Override
+    public void present()
+    {
+        if (dirtyMinX >= dirtyMaxX)
+            return;
+
+        int dirtyWidth = dirtyMaxX - dirtyMinX;
+        int dirtyHeight = dirtyMaxY - dirtyMinY;
+
+        if (presentedRect.getMinX() != dirtyMinX || presentedRect.getMinY() != dirtyMinY
+                || presentedRect.getWidth() != dirtyWidth || presentedRect.getHeight() != dirtyHeight)
+            presentedRect = new Rectangle2D(dirtyMinX, dirtyMinY, dirtyWidth, dirtyHeight);
+
+        pixelBuffer.updateBuffer(presentedRegion);
+        getGameGC().drawImage(framebuffer, dirtyMinX, dirtyMinY, dirtyWidth, dirtyHeight, dirtyMinX, dirtyMinY, dirtyWidth, dirtyHeight);
+        clearDirtyRect();
+    }
+
+    /**
+     * Copy a Tile sized sprite into the framebuffer, one row at a time. Tiles are always fully on screen.
+     * @param sprite The pixels of the sprite.
+     * @param x The x position to draw the sprite at.
+     * @param y The y position to draw the sprite at.
+     */
+    private void copySprite(int[] sprite, int x, int y)
+    {
+        for (int row = 0; row < tileSize; row++)
+            System.arraycopy(sprite, row * tileSize, pixels, (y + row) * width + x, tileSize);
+
+        addDirtyRect(x, y, x + tileSize, y + tileSize);
+    }
+
+    /**
+     * Grow the changed rectangle to cover another rectangle.
+     * @param minX The left edge of the rectangle.
+     * @param minY The top edge of the rectangle.
+     * @param maxX The right edge of the rectangle, exclusive.
+     * @param maxY The bottom edge of the rectangle, exclusive.
+     */
+    private void addDirtyRect(int minX, int minY, int maxX, int maxY)
+    {
+        dirtyMinX = Math.min(dirtyMinX, minX);
+        dirtyMinY = Math.min(dirtyMinY, minY);
+        dirtyMaxX = Math.max(dirtyMaxX, maxX);
+        dirtyMaxY = Math.max(dirtyMaxY, maxY);
+    }
+
+    /**
+     * Empty the changed rectangle.
+     */
+    private void clearDirtyRect()
+    {
+        dirtyMinX = width;
+        dirtyMinY = height;
+        dirtyMaxX = 0;
+        dirtyMaxY = 0;
+    }
+
+    /**
+     * @param image The Image to read.
+     * @param x The x position of the Tile sized area to read.
+     * @param y The y position of the Tile sized area to read.
+     * @return The premultiplied ARGB pixels of the area, row by row.
+     */
+    private int[] readPixels(Image image, int x, int y)
+    {
+        int[] tilePixels = new int[tileSize * tileSize];
+        image.getPixelReader().getPixels(x, y, tileSize, tileSize, PixelFormat.getIntArgbPreInstance(), tilePixels, 0, tileSize);
+
+        return tilePixels;
+    }
+}
@@ -2,50 +2,34 @@ package com.example.tetris_clone;
 
 import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
-import java.util.*;
+
+import java.nio.file.Path;
 
 /**
- * This class contains all animation timers, Tetrominos, and game/menu data.
- * On each frame of the game loop, the game state is updated and TetrisRenderer is used to render
-   updated graphics.
+ * This class contains all animation timers and game/menu data, and adapts the GameEngine to JavaFX.
+ * On each frame of the game loop, the GameEngine advances the game state and TetrisRenderer is used to render
+   updated graphics. GameEvents emitted by the engine are turned into sounds and graphics updates.
  */
 
-public class Game
+public class Game implements GameEventListener
 {
-    private Tetromino currentTetromino;                 // The Tetromino that is controlled with the TetrisController.
-    private Tetromino nextTetromino;                    // The Tetromino that is next in line to be the current Tetromino.
-    private Tile[] prevNextTetrominoTiles;              // Stores the Tiles of the previous next Tetromino.
-    private Tile[] preview;                             // The game board Tiles that show where the current Tetromino will be placed.
+    private GameEngine engine;                          // Runs the game rules - Tetrominos, gravity, line clears and scoring.
+    private int[] previewRows, previewCols;             // The game board rows and columns that show where the current Tetromino will be placed.
     private GameData gameData;                          // Stores all game Tile data.
     private MenuData menuData;                          // Stores all menu Tile data.
     private PlayerData[] topPlayersData;                // Stores PlayerData used to update the Database.
     private Database database;                          // Stores names and scores of top 3 players after game ends.
     private SoundPlayer soundPlayer;                    // Used to play sound effects and music.
     private final TetrisRenderer renderer;              // Draws graphics to the screen.
-    private final AnimationTimer tetrominoDropper;             // Timer that drops current Tetromino at rate of gravity.
-    private final AnimationTimer tetrisCharRotater;     // Timer that, once started, rotates golden TETRIS chars.
-    private float gravity;                              // Speed that the current Tetromino drops at.
-    private float timeBetweenDrops;                     // Time elapsed between Tetromino drops.
-    private int score;                                  // The current score.
+    private final TickScheduler tickScheduler;          // Turns rendered frames into fixed-length game logic ticks.
+    private final InputQueue inputQueue;                // Key presses waiting to be applied at the start of the next tick.
+    private final AutoShift autoShift;                  // Times the auto-repeated moves of a held left or right key.
+    private final FrameStats frameStats;                // Records logic time, render time, pulse jitter and input latency of the game loop.
+    private int statsOverlayTickCounter;                // Ticks passed since the stats overlay was last updated.
     private int topScore;                               // The current top score in the Database.
-    private int lines;                                  // The current number of cleared lines.
-    private int level;                                  // The current level.
-    private int linesNeededToLevel;                     // The number of cleared lines needed to level up.
-    private int linesClearedAtOnce;                     // Counts the number of lines to be cleared when the current Tetromino is placed.
-    private int row, col;                               // The row and column number of each current Tetromino tile
-    private int numOfTetrises;                          // Keeps track of how many Tetris' have been earned in the current game.
     private int place;                                  // Stores what place the current player scores in the top 3, if any.
-    private int frameCounter;                           // Used to count number of frames that have passed in a given timer.
     private int[] tetrominoTypeCount;
-    private int[] animatedTileIndexes;                  // The indexes of the Tiles that the row clear animation starts with.
-    private long gameClockTimePassed;                   // The time that has passed since the game clock timer started.
-    private long gameLoopTimePassed;                    // The time that has passed since the game loop timer started.
-    private long charRotaterTimePassed;                 // Keeps track of time passed since the charRotator is started.
-    private long pauseTime;                             // Used to store the time that the game is paused.
-    private double timeSinceLastGameLoopCheck;          // The time since the last time the game loop timer executed.
-    private double timeSinceLastGameClockCheck;         // The time since the last time the game clock timer executed.
-    private double timeSinceLastRotaterCheck;           // The time since the last time the charRotator timer executed.
-    private ArrayList<Integer> indexesOfRowsToClear;    // Stores the numbers of game board rows that need Tiles cleared.
+    private int charRotaterTickCounter;                 // Ticks passed since the golden TETRIS chars last rotated.
     private int tetrominoDistanceToPlacement;           // Stores the distance that the current Tetromino is from its current
                                                         // placement location.
 
@@ -54,23 +38,17 @@ public class Game
     private boolean isGamePaused;           // Is game paused or not
     private boolean isBeginning;            // Is game at beginning or not
     private boolean isMenuActive;           // Is menu active or not
-    private boolean isUpPressed;            // Is controller up key pressed or not
-    private boolean isDownPressed;          // Is controller down key pressed or not
     private boolean highScoreBeaten;        // Has high score been beaten or not
-    private boolean isAnimationActive;      // Is animation active or not
-    private boolean isDelayActive;          // Is delay active or not
     private boolean inBetweenGames;         // Used to determine when in between games so that, when toggled true,
                                             // the next time the controller's space or enter key is pressed,
                                             // the controller knows to reset the game.
-    private boolean tetrominoIsPlaced;      // Is tetromino placed or not
     private boolean menuDataHasBeenChanged; // Has menu date been changed or not
-    private boolean hasAnimatedRows;    // Has lines been incremented or not
     private boolean gameHasBeenRestarted;   // Has game been restarted or not
-    private boolean tetrisCharsAreRotating; // Is tetrisCharRotator active or not
-    private boolean hasAwardedTetrisMaster; // Has tetris master been awarded or not
+    private boolean tetrisCharsAreRotating; // Are the golden TETRIS chars rotating or not
+    private boolean isStatsOverlayShown;    // Is the input latency overlay shown or not
 
     /**
-     * The constructor initializes the TetrisRenderer, initial game data, and all AnimationTimers and starts the game loop.
+     * The constructor initializes the TetrisRenderer, initial game data, and the tick scheduler and starts the game loop.
      * @param newRenderer The TetrisRenderer instance used by the game.
      */
     public Game(TetrisRenderer newRenderer)
@@ -79,129 +57,77 @@ public class Game
 
         setInitialGameState();
 
-        // This timer is used to rotate TETRIS characters clockwise every 0.25 seconds.
-        tetrisCharRotater = new AnimationTimer()
+        tickScheduler = new TickScheduler(Constants.TICKS_PER_SECOND, Constants.MAX_CATCH_UP_TICKS);
+        frameStats = new FrameStats();
+        inputQueue = new InputQueue(Constants.INPUT_QUEUE_CAPACITY);
+        autoShift = new AutoShift(Constants.TICKS_PER_SECOND, Constants.DAS_FRAME_COUNT, Constants.ARR_FRAME_COUNT);
+
+        // The game loop runs the game logic in fixed ticks, catching up after stalls, and then renders the result once.
+        AnimationTimer gameLoop = new AnimationTimer()
         {
             @Override
             public void handle(long now)
             {
-                timeSinceLastRotaterCheck = (now - charRotaterTimePassed) / 1000000000.0;
+                frameStats.recordPulse(now);
+                int ticks = tickScheduler.advance(now);
 
-                if (timeSinceLastRotaterCheck >= Constants.TETRIS_CHAR_ROTATE_SPEED)
+                if (ticks == 0)
                 {
-                    charRotaterTimePassed = now;
+                    renderer.present();
+                    return;
+                }
 
-                    for (Tile tile : gameData.getTetrisDisplay())
-                    {
-                        switch (tile.getType())
-                        {
-                            // T Rotations
-                            case T -> tile.setTileType(TileType.T90);
-                            case T90 -> tile.setTileType(TileType.T180);
-                            case T180 -> tile.setTileType(TileType.T240);
-                            case T240 -> tile.setTileType(TileType.T);
-
-                            // E Rotations
-                            case E -> tile.setTileType(TileType.E90);
-                            case E90 -> tile.setTileType(TileType.E180);
-                            case E180 -> tile.setTileType(TileType.E240);
-                            case E240 -> tile.setTileType(TileType.E);
-
-                            // R Rotations
-                            case R -> tile.setTileType(TileType.R90);
-                            case R90 -> tile.setTileType(TileType.R180);
-                            case R180 -> tile.setTileType(TileType.R240);
-                            case R240 -> tile.setTileType(TileType.R);
-
-                            // I Rotations
-                            case I -> tile.setTileType(TileType.I180);
-                            case I180 -> tile.setTileType(TileType.I);
-
-                            // S Rotations
-                            case S -> tile.setTileType(TileType.S180);
-                            case S180 -> tile.setTileType(TileType.S);
-                        }
-                    }
+                boolean wasGameRunning = isGameActive && !isMenuActive;
+                long logicStartTime = System.nanoTime();
 
-                    renderer.drawGameDataSprites(gameData, gameData.getTetrisDisplay());
-                }
-            }
-        };
+                for (int tick = 0; tick < ticks; tick++)
+                    runTick(tickScheduler.getTickTime(tick, ticks));
 
-        // This timer is responsible for dropping the current Tetromino at the speed of gravity.
-        tetrominoDropper = new AnimationTimer()
-        {
-            @Override
-            public void handle(long now)
-            {
-                if (!isGamePaused)
+                long renderStartTime = System.nanoTime();
+
+                // If menu data has changed, render menu graphics.
+                if (isMenuActive && menuDataHasBeenChanged)
                 {
-                    if (gameClockTimePassed == 0)
-                        gameClockTimePassed = now;
+                    renderer.drawMenuSprites(menuData.getMenus()[getMenuData().getActiveMenu()]);
+                    menuDataHasBeenChanged = false;
                 }
 
-                timeSinceLastGameClockCheck = (now - gameClockTimePassed) / 1000000000.0;
-
-                if (isDownPressed)
-                    timeBetweenDrops = Constants.TIME_BTWN_SOFT_DROPS;
-                else
-                    timeBetweenDrops = gravity;
-
-                if (timeSinceLastGameClockCheck >= timeBetweenDrops)
+                // If the game was running, render the Tetromino and game board, or clear the Tetromino if the game ended.
+                if (wasGameRunning)
                 {
-                    gameClockTimePassed = now;
-                    currentTetromino.fall(gameData.getGameboard());
+                    if (isGameActive)
+                    {
+                        if (!engine.isAnimationActive())
+                        {
+                            renderer.drawTetromino(engine.getCurrentTetromino());
+                            frameStats.recordTetrominoDrawn(System.nanoTime());
+                        }
+                        else
+                            renderer.clearTetromino();
 
-                    if (isDownPressed)
-                        currentTetromino.incrementRowsSoftDropped();
+                        renderer.drawDirtyGameSprites(gameData);
+                    }
+                    else
+                        renderer.clearTetromino();
                 }
-            }
-        };
 
-        // The game loop is responsible for updating the game data and menu data to reflect changes in game state as well as rendering graphics.
-        AnimationTimer gameLoop = new AnimationTimer()
-        {
-            @Override
-            public void handle(long now) {
-                timeSinceLastGameLoopCheck = (now - gameLoopTimePassed) / 1000000000.0;
+                renderer.present();
 
-                if (timeSinceLastGameLoopCheck >= Constants.FRAME_RATE)
+                if (wasGameRunning)
                 {
-                    gameLoopTimePassed = now;
+                    frameStats.recordLogicTime(renderStartTime - logicStartTime);
+                    frameStats.recordRenderTime(System.nanoTime() - renderStartTime);
+                }
 
-                    // If menu data has changed, render menu graphics.
-                    if (isMenuActive && menuDataHasBeenChanged)
-                    {
-                        renderer.drawMenuSprites(menuData.getMenus()[getMenuData().getActiveMenu()]);
-                        menuDataHasBeenChanged = false;
-                    }
+                if (isStatsOverlayShown)
+                {
+                    statsOverlayTickCounter += ticks;
 
-                    // If menu is not active and game is active, update game state and render graphics as needed.
-                    if (isGameActive && !isMenuActive)
+                    if (statsOverlayTickCounter >= Constants.STATS_OVERLAY_TICK_COUNT)
                     {
-                        updateGameState();
-
-                        // At beginning of game, render all game graphics.
-                        if (isBeginning)
-                            renderer.renderAllGameGraphics(gameData);
-                        else
-                        {
-                            if (isGameActive)
-                            {
-                                // Render Tetromino and its preview on every frame as long as game is active.
-                                if (!isAnimationActive)
-                                    renderer.drawTetromino(currentTetromino);
-
-                                // Render game board while game is active.
-                                renderer.drawGameSprites(gameData.getGameboard());
-                            }
-                            else
-                                renderer.clearTetromino();
-                        }
+                        statsOverlayTickCounter = 0;
+                        renderer.drawStatsOverlay(frameStats.getInputLatencySummary());
                     }
-
-                    if (isUpPressed)
-                        isUpPressed = false;
                 }
             }
         };
@@ -223,10 +149,12 @@ public class Game
         database = new Database();
         gameData = new GameData();
         menuData = new MenuData();
+        engine = new GameEngine(gameData);
+        engine.setEventListener(this);
 
-        indexesOfRowsToClear = new ArrayList<>();
         tetrominoTypeCount = new int[] {0, 0, 0, 0, 0, 0, 0};
-        animatedTileIndexes = new int[] {Constants.GAMEBOARD_COLS / 2 - 1, Constants.GAMEBOARD_COLS / 2};
+        previewRows = new int[Tetromino.NUM_OF_TILES];
+        previewCols = new int[Tetromino.NUM_OF_TILES];
 
         loadTopPlayersData();
 
@@ -244,40 +172,18 @@ public class Game
      */
     public void resetGame()
     {
-        gravity = 1f;
-        numOfTetrises = 0;
-        score = 0;
-        lines = 0;
-        level = 0;
-        linesNeededToLevel = 10;
-        linesClearedAtOnce = 0;
-
         isGameActive = false;
         isGamePaused = false;
         isBeginning = true;
         isMenuActive = true;
-        isUpPressed = false;
-        isDownPressed = false;
         highScoreBeaten = false;
-        isAnimationActive = false;
-        isDelayActive = false;
         inBetweenGames = false;
-        tetrominoIsPlaced = false;
         menuDataHasBeenChanged = true;
-        hasAnimatedRows = false;
         gameHasBeenRestarted = false;
         tetrisCharsAreRotating = false;
-        hasAwardedTetrisMaster = false;
-
-        // The value of each Tile's length and width.
-        frameCounter = 0;
-        gameClockTimePassed = 0;
-        gameLoopTimePassed = 0;
-        charRotaterTimePassed = 0;
-        pauseTime = 0;
-        timeSinceLastGameLoopCheck = 0;
-        timeSinceLastGameClockCheck = 0;
-        timeSinceLastRotaterCheck = 0;
+
+        charRotaterTickCounter = 0;
+        frameStats.reset();
 
         // Reset game data back to initial state.
         for (int statsRow = 0; statsRow < gameData.getStats().length; statsRow++)
@@ -285,262 +191,242 @@ public class Game
             tetrominoTypeCount[statsRow] = 0;
             gameData.updateTileData(gameData.getStats()[statsRow], tetrominoTypeCount[statsRow]);
         }
-        gameData.updateTileData(gameData.getLines(), lines);
-        gameData.updateTileData(gameData.getScore(), score);
-        gameData.updateTileData(gameData.getLevel(), level);
-        gameData.resetBoardTiles();
+        gameData.updateTileData(gameData.getLines(), 0);
+        gameData.updateTileData(gameData.getScore(), 0);
+        gameData.updateTileData(gameData.getLevel(), 0);
         menuData.resetPlayerName();
-        animatedTileIndexes[0] = Constants.GAMEBOARD_COLS / 2 - 1;
-        animatedTileIndexes[1] = Constants.GAMEBOARD_COLS / 2;
 
-        currentTetromino = new Tetromino();
-        nextTetromino    = new Tetromino();
-        currentTetromino.generateNewTileList(Constants.CURRENT_TETROMINO_STARTING_X, Constants.CURRENT_TETROMINO_STARTING_Y);
-        nextTetromino.generateNewTileList(Constants.NEXT_TETROMINO_STARTING_X, Constants.NEXT_TETROMINO_STARTING_Y);
+        // Reset the game board and spawn the first Tetrominos.
+        engine.startNewGame();
         initializeTileLists();
 
         renderer.changeBackgroundImage(0);
         renderer.openMenu(4, 0, menuData);
 
         gameData.clearTetrisChars();
-        renderer.drawGameDataSprites(gameData, gameData.getTetrisDisplay());
+        renderer.drawGameDataSprites(gameData.getTetrisDisplay());
 
         // Render all game graphics at once to start.
         renderer.renderAllGameGraphics(gameData);
     }
 
     /**
-     * This method conducts all checks that need to be done on the game data each frame of the game loop.
+     * Queue a gameplay input to be applied at the start of the next tick. Called from the key handlers.
+     * @param action The input.
+     * @param nanos The System.nanoTime() timestamp of the key press - used to measure input latency.
      */
-    public void updateGameState()
+    public void queueInput(InputAction action, long nanos)
     {
-        // Set all tiles on the game board that are not a placed or preview Tetromino tile to 'EMPTY'
-        if (!isAnimationActive)
-        {
-            // Draw Tetromino preview Tiles.
-            updatePreview();
-        }
+        inputQueue.offer(action, nanos);
+    }
+
+    /**
+     * Show or hide the input latency overlay.
+     */
+    public void toggleStatsOverlay()
+    {
+        isStatsOverlayShown = !isStatsOverlayShown;
+        statsOverlayTickCounter = Constants.STATS_OVERLAY_TICK_COUNT;
 
-        if (!isDelayActive && !isAnimationActive)
+        if (!isStatsOverlayShown)
+            renderer.clearStatsOverlay();
+    }
+
+    /**
+     * @return The game loop's timing and input latency histograms.
+     */
+    public FrameStats getFrameStats()
+    {
+        return frameStats;
+    }
+
+    /**
+     * Run one fixed-length tick of game logic - the GameEngine, and the golden TETRIS chars once they are rotating.
+     * @param tickTime The timestamp that the tick was due at - auto-repeated moves due by then are made this tick.
+     */
+    private void runTick(long tickTime)
+    {
+        if (isGameActive && !isMenuActive)
         {
-            // Update the initial next tetromino display at the beginning of the game.
-            if (isBeginning)
+            // Apply every input queued since the last tick, in the order the keys were pressed. Auto-repeated moves
+            // that came due before an input are made before it.
+            for (InputAction action = inputQueue.poll(); action != null; action = inputQueue.poll())
             {
-                incrementTetrominoTypeCount(currentTetromino.getTetrominoType());
-                gameData.updateNextDisplay(nextTetromino);
-                renderer.drawGameSprites(gameData.getNextDisplay());
-                isBeginning = false;
-            }
+                long actionTime = inputQueue.getPolledTime();
+                shiftHeldTetromino(Math.min(actionTime, tickTime));
 
-            // Check if Tetromino is ready to be placed.
-            for (Tile tile : currentTetromino.getTiles())
-            {
-                if (tile.getIsPlacedTetrominoTile())
+                switch (action)
                 {
-                    System.out.println("1 TETROMINO TILES ARE PLACED");
+                    case MOVE_LEFT -> autoShift.press(Direction.LEFT, actionTime);
+                    case MOVE_RIGHT -> autoShift.press(Direction.RIGHT, actionTime);
+                    case MOVE_LEFT_END -> autoShift.release(Direction.LEFT, actionTime);
+                    case MOVE_RIGHT_END -> autoShift.release(Direction.RIGHT, actionTime);
+                }
 
-                    if (isDownPressed)
-                        isDownPressed = false;
+                if (!action.isRelease())
+                    frameStats.recordInput(actionTime);
 
-                    tetrominoIsPlaced = true;
-                    break;
-                }
+                engine.applyInput(action);
             }
 
-            // If Tetromino is ready for placement, check to see if it needs to be delayed.
-            if (tetrominoIsPlaced)
-            {
-                if (!isUpPressed)
-                {
-                    System.out.println("2A TETROMINO WAS PLACED WITHOUT HARD DROP");
-                    soundPlayer.playSound(3);
-                    tetrominoDropper.stop();
-                    isDelayActive = true;
-                }
-                else
-                {
-                    System.out.println("2B TETROMINO WAS HARD DROPPED");
-                    for (Tile tile : currentTetromino.getTiles())
-                    {
-                        getRowAndCol(tile);
-                        gameData.getGameboard()[row][col].setTileType(tile.getType());
-                        gameData.getGameboard()[row][col].setIsPlacedTetrominoTile(true);
-                    }
-                }
-            }
+            shiftHeldTetromino(tickTime);
+            updateGameState();
         }
-
-        if (tetrominoIsPlaced && isDelayActive)
+        else
         {
-            if (!isGamePaused)
-                frameCounter++;
+            // Inputs from while the game is paused or in a menu are dropped, except for releasing soft drop, so that
+            // soft drop isn't stuck on when the game resumes. Held keys stop auto-repeating until they are pressed again.
+            autoShift.reset();
 
-            System.out.println("C IN DELAY: "+frameCounter);
-
-            if (frameCounter >= Constants.DELAY_FRAME_COUNT)
+            for (InputAction action = inputQueue.poll(); action != null; action = inputQueue.poll())
             {
-                frameCounter = 0;
-                isDelayActive = false;
-                tetrominoIsPlaced = true;
-                tetrominoDropper.start();
+                if (action == InputAction.SOFT_DROP_END)
+                    engine.applyInput(action);
             }
         }
 
-        if (!isDelayActive && !isAnimationActive)
+        if (tetrisCharsAreRotating && ++charRotaterTickCounter >= Constants.TETRIS_CHAR_ROTATE_TICK_COUNT)
         {
-            if (tetrominoIsPlaced)
-            {
-                // After delay is over, drop the Tetromino to its updated placement location before proceeding.
-                forceDropTetromino();
-
-                for (Tile tile : currentTetromino.getTiles())
-                {
-                    getRowAndCol(tile);
-                    gameData.getGameboard()[row][col].setTileType(tile.getType());
-                    gameData.getGameboard()[row][col].setIsPlacedTetrominoTile(true);
-                }
-
-                System.out.println("D CHECKING FOR ROWS TO CLEAR");
-                for (Tile tile : currentTetromino.getTiles())
-                {
-                    int numOfFilledTiles = 0;
-                    row = Helper.getRow(tile);
+            charRotaterTickCounter = 0;
+            rotateTetrisChars();
+        }
+    }
 
-                    if (!indexesOfRowsToClear.contains(row))
-                    {
-                        for (Tile boardTile : gameData.getGameboard()[row])
-                        {
-                            if (boardTile.getIsPlacedTetrominoTile())
-                                numOfFilledTiles++;
-                        }
-                    }
+    /**
+     * Make the auto-repeated moves of a held left or right key that have come due.
+     * @param nanos The timestamp to make moves up to.
+     */
+    private void shiftHeldTetromino(long nanos)
+    {
+        int moves = autoShift.getMovesDue(nanos);
 
-                    if (numOfFilledTiles == Constants.GAMEBOARD_COLS)
-                    {
-                        indexesOfRowsToClear.add(row);
-                        linesClearedAtOnce++;
-                    }
-                }
+        if (moves > 0)
+            engine.shiftTetromino(autoShift.getActiveDirection(), moves);
+    }
 
-                // Animate rows as needed.
-                if (indexesOfRowsToClear.size() > 0)
-                {
-                    tetrominoDropper.stop();
-                    isAnimationActive = true;
-                }
+    /**
+     * Rotate each golden TETRIS char clockwise by one step and render them.
+     */
+    private void rotateTetrisChars()
+    {
+        for (Tile tile : gameData.getTetrisDisplay())
+        {
+            switch (tile.getType())
+            {
+                // T Rotations
+                case T -> tile.setTileType(TileType.T90);
+                case T90 -> tile.setTileType(TileType.T180);
+                case T180 -> tile.setTileType(TileType.T240);
+                case T240 -> tile.setTileType(TileType.T);
+
+                // E Rotations
+                case E -> tile.setTileType(TileType.E90);
+                case E90 -> tile.setTileType(TileType.E180);
+                case E180 -> tile.setTileType(TileType.E240);
+                case E240 -> tile.setTileType(TileType.E);
+
+                // R Rotations
+                case R -> tile.setTileType(TileType.R90);
+                case R90 -> tile.setTileType(TileType.R180);
+                case R180 -> tile.setTileType(TileType.R240);
+                case R240 -> tile.setTileType(TileType.R);
+
+                // I Rotations
+                case I -> tile.setTileType(TileType.I180);
+                case I180 -> tile.setTileType(TileType.I);
+
+                // S Rotations
+                case S -> tile.setTileType(TileType.S180);
+                case S180 -> tile.setTileType(TileType.S);
             }
         }
 
-        if (tetrominoIsPlaced && isAnimationActive)
-        {
-            renderer.clearTetromino();
-            Helper.sortDescending(indexesOfRowsToClear);
-
-            // Increment lines by the number of rows that were cleared
-            if (!hasAnimatedRows)
-            {
-                soundPlayer.playSound(1);
+        renderer.drawGameDataSprites(gameData.getTetrisDisplay());
+    }
 
-                if (linesClearedAtOnce == Constants.LINES_REQ_FOR_TETRIS)
-                {
-                    soundPlayer.playSound(9);
+    /**
+     * Advance the GameEngine by one tick and update the Tetromino preview Tiles.
+     */
+    public void updateGameState()
+    {
+        // Draw Tetromino preview Tiles.
+        if (!engine.isAnimationActive())
+            updatePreview();
 
-                    if (numOfTetrises < Constants.NUM_OF_CHARS_IN_TETRIS)
-                    {
-                        numOfTetrises++;
-                        gameData.drawTetrisChar(numOfTetrises);
-                    }
+        isBeginning = false;
+        engine.tick();
+    }
 
-                    if (!tetrisCharsAreRotating)
-                    {
-                        tetrisCharRotater.start();
-                        tetrisCharsAreRotating = true;
-                    }
-                }
+    /**
+     * React to the events emitted by the GameEngine by playing sounds and updating game data Tiles and graphics.
+     * @param event The event that occurred.
+     * @param value A value describing the event.
+     */
+    @Override
+    public void onGameEvent(GameEvent event, int value)
+    {
+        switch (event)
+        {
+            case PIECE_SPAWNED ->
+            {
+                // Increment the type of the new current Tetromino
+                incrementTetrominoTypeCount(engine.getCurrentTetromino().getTetrominoType());
 
-                // So that sound effects and/or tetrisCharRotator are only executed once during animation instead of on
-                // each animation frame.
-                hasAnimatedRows = true;
+                // Update the next Tetromino display to reflect its new TileType and render updated next display Tiles.
+                gameData.updateNextDisplay(engine.getNextTetromino());
+                renderer.drawGameSprites(gameData.getNextDisplay());
             }
-
-            System.out.println("E IN ANIMATION "+frameCounter);
-            // Animate the filled game board rows to be cleared.
-            if (!isGamePaused)
+            case PIECE_LANDED, MOVE_BLOCKED -> soundPlayer.playSound(3);
+            case ROTATED -> soundPlayer.playSound(7);
+            case LINES_CLEARING -> soundPlayer.playSound(1);
+            case TETRIS_CHAR_EARNED -> gameData.drawTetrisChar(value);
+            case TETRIS ->
             {
-                if (frameCounter % Constants.ANIMATION_FRAME_COUNT == 0)
-                {
-                    // Once each cycle's sprite has been selected, set it as the new tiletype of every tile in
-                    // the rows to be cleared.
-                    for (int rowNumber : indexesOfRowsToClear)
-                    {
-                        gameData.getGameboard()[rowNumber][animatedTileIndexes[0]].setTileType(TileType.WHITE);
-                        gameData.getGameboard()[rowNumber][animatedTileIndexes[1]].setTileType(TileType.WHITE);
+                soundPlayer.playSound(9);
 
-                        if (animatedTileIndexes[0] < 4 && animatedTileIndexes[1] > 5)
-                        {
-                            gameData.getGameboard()[rowNumber][animatedTileIndexes[0] + 1].setTileType(TileType.EMPTY);
-                            gameData.getGameboard()[rowNumber][animatedTileIndexes[1] - 1].setTileType(TileType.EMPTY);
-                        }
-                    }
-
-                    animatedTileIndexes[0]--;
-                    animatedTileIndexes[1]++;
+                if (!tetrisCharsAreRotating)
+                {
+                    charRotaterTickCounter = 0;
+                    tetrisCharsAreRotating = true;
                 }
-
-                frameCounter++;
             }
-
-            // After 0.5 seconds have passed, stop the animation and resume the game.
-            if (frameCounter == Constants.ANIMATION_FRAME_COUNT * 5)
+            case LINES_CHANGED ->
             {
-                dropClearedRows();
-
-                frameCounter = 0;
-                animatedTileIndexes[0] = 4;
-                animatedTileIndexes[1] = 5;
-                hasAnimatedRows = false;
-                isAnimationActive = false;
-                tetrominoDropper.start();
+                gameData.updateTileData(gameData.getLines(), value);
+                renderer.drawGameDataSprites(gameData.getLines());
             }
-        }
-
-        if (tetrominoIsPlaced && !isDelayActive && !isAnimationActive)
-        {
-            System.out.println("F CHECKING FOR GAME OVER");
-            // Check for game over state.
-            checkIfGameIsOver();
-
-            // If game is still active, prepare for next tetromino.
-            if (isGameActive)
+            case TETRIS_MASTER ->
             {
-                System.out.println("G GAME STILL ACTIVE");
-
-                // Un-place current Tetromino.
-                tetrominoIsPlaced = false;
-                for (Tile tile : currentTetromino.getTiles())
-                    tile.setIsPlacedTetrominoTile(false);
+                renderer.changeBackgroundImage(8);
+                renderer.renderAllGameGraphics(gameData);
+                soundPlayer.playSound(10);
+            }
+            case SCORE_CHANGED ->
+            {
+                soundPlayer.playSound(6);
+                soundPlayer.playSound(5);
 
-                // Increment lines as needed
-                if (linesClearedAtOnce > 0)
+                if (value > topScore)
                 {
-                    incrementLines(linesClearedAtOnce);
-                    linesNeededToLevel -= linesClearedAtOnce;
+                    gameData.updateTileData(gameData.getTopScore(), value);
+                    renderer.drawGameDataSprites(gameData.getTopScore());
                 }
 
-                // Increment score
-                incrementScore();
-                currentTetromino.resetRowsHardAndSoftDropped();
-
-                // Increment level as needed
-                if (linesNeededToLevel <= 0)
-                    incrementLevel();
-
-                // Increment the type of the new current Tetromino
-                incrementTetrominoTypeCount(currentTetromino.getTetrominoType());
-
-                // Update the next Tetromino display to reflect its new TileType and render updated gameboard / next display Tiles.
-                gameData.updateNextDisplay(nextTetromino);
+                gameData.updateTileData(gameData.getScore(), value);
+                renderer.drawGameDataSprites(gameData.getScore());
+            }
+            case LEVEL_CHANGED ->
+            {
+                soundPlayer.playSound(4);
+                gameData.updateTileData(gameData.getLevel(), value);
+                renderer.drawGameDataSprites(gameData.getLevel());
+            }
+            case GAME_OVER ->
+            {
+                // Render game board and next display graphics one last time and then end the game.
+                renderer.drawGameSprites(gameData.getGameboard());
                 renderer.drawGameSprites(gameData.getNextDisplay());
+                gameOver(false);
             }
         }
     }
@@ -565,7 +451,7 @@ public class Game
         scores[0] = topPlayersData[0].getScore();
         scores[1] = topPlayersData[1].getScore();
         scores[2] = topPlayersData[2].getScore();
-        scores[3] = score;
+        scores[3] = engine.getScore();
 
         // sort 'scores' in descending order.
         for (int i = 0; i < scores.length; i++)
@@ -588,120 +474,21 @@ public class Game
         {
             topPlayersData[i].setName(names[i]);
             topPlayersData[i].setScore(scores[i]);
-            System.out.println(topPlayersData[i].getName()+", "+topPlayersData[i].getScore());
+            EventLog.log(LogEvent.TOP_PLAYER_RANKED, topPlayersData[i].getName(), topPlayersData[i].getScore());
         }
 
         // return number signifying what place, if any, in the top 3 'score' is in:
         // 0 if NO, 1 if first place, 2 if 2nd place, and 3 if 3rd place
-        if (scores[0] == score)
+        if (scores[0] == engine.getScore())
             place = 1;
-        else if (scores[1] == score)
+        else if (scores[1] == engine.getScore())
             place = 2;
-        else if (scores[2] == score)
+        else if (scores[2] == engine.getScore())
             place = 3;
 
         return place;
     }
 
-    /**
-     * Increment the number of cleared lines in the current game, update the game data Tiles, and render the line display
-       graphics to reflect the updates.
-     * @param rowsCleared The number of cleared lines in the current game.
-     */
-    public void incrementLines(int rowsCleared)
-    {
-        lines += rowsCleared;
-        gameData.updateTileData(gameData.getLines(), lines);
-        renderer.drawGameDataSprites(gameData, gameData.getLines());
-    }
-
-    /**
-     * Increment the current score based on level, number of lines cleared, and number of rows soft and hard dropped.
-     * If player has activated all 6 TETRIS chars, then activate 'TETRIS MASTER' score boost.
-     */
-    public void incrementScore()
-    {
-        if (level == 0)
-        {
-            switch (linesClearedAtOnce)
-            {
-                case 1 -> score += 40;
-                case 2 -> score += 100;
-                case 3 -> score += 300;
-                case 4 -> score += 1200;
-            }
-        }
-        else if (level > 0 && level < 10)
-        {
-            switch (linesClearedAtOnce)
-            {
-                case 1 -> score += 40 * level;
-                case 2 -> score += 100 * level;
-                case 3 -> score += 300 * level;
-                case 4 -> score += 1200 * level;
-            }
-        } else
-        {
-            switch (linesClearedAtOnce)
-            {
-                case 1 -> score += 40 * 10;
-                case 2 -> score += 100 * 10;
-                case 3 -> score += 300 * 10;
-                case 4 -> score += 1200 * 10;
-            }
-        }
-
-        soundPlayer.playSound(6);
-        soundPlayer.playSound(5);
-
-        if (numOfTetrises == Constants.NUM_OF_CHARS_IN_TETRIS && !hasAwardedTetrisMaster)
-        {
-            score += 50000;
-            hasAwardedTetrisMaster = true;
-            renderer.changeBackgroundImage(8);
-            renderer.renderAllGameGraphics(gameData);
-            soundPlayer.playSound(10);
-        }
-
-        score += currentTetromino.getRowsSoftDropped() + currentTetromino.getRowsHardDropped() * 2;
-        linesClearedAtOnce = 0;
-
-        if (score > topScore)
-        {
-            gameData.updateTileData(gameData.getTopScore(), score);
-            renderer.drawGameDataSprites(gameData, gameData.getTopScore());
-        }
-
-        gameData.updateTileData(gameData.getScore(), score);
-        renderer.drawGameDataSprites(gameData, gameData.getScore());
-    }
-
-    /**
-     * Increment the current level based on number of lines cleared and update speed of gravity based on level.
-     */
-    public void incrementLevel()
-    {
-        level++;
-
-        switch (level)
-        {
-            case 1, 2, 3, 4, 5 -> linesNeededToLevel = 10;
-            case 6, 7, 8, 9 -> linesNeededToLevel = 15;
-            case 10, 11, 12, 13 -> linesNeededToLevel = 20;
-            case 14, 15, 16, 17 -> linesNeededToLevel = 25;
-            default -> linesNeededToLevel = 30;
-        }
-
-        linesNeededToLevel -= lines % linesNeededToLevel;
-
-        if (level >= 9)
-            gravity *= 0.8;
-
-        soundPlayer.playSound(4);
-        gameData.updateTileData(gameData.getLevel(), level);
-        renderer.drawGameDataSprites(gameData, gameData.getLevel());
-    }
-
     /**
      * Increment the count for the TileType passed in.
      * @param tetrominoType The TileType of the type to accumulate.
@@ -723,7 +510,7 @@ public class Game
 
         tetrominoTypeCount[typeIndex]++;
         gameData.updateTileData(gameData.getStats()[typeIndex], tetrominoTypeCount[typeIndex]);
-        renderer.drawGameDataSprites(gameData, gameData.getStats()[typeIndex]);
+        renderer.drawGameDataSprites(gameData.getStats()[typeIndex]);
     }
 
     /**
@@ -733,26 +520,22 @@ public class Game
     {
         // Get the distance from each current Tetromino Tile to either the nearest placed Tile in its column,
         // or the bottom of the game board.
-        tetrominoDistanceToPlacement = Helper.getTetrominoDropDistance(currentTetromino.getTiles(), gameData.getGameboard());
-        int previewTileIndex = 0;
+        Tetromino currentTetromino = engine.getCurrentTetromino();
+        tetrominoDistanceToPlacement = currentTetromino.getDropDistance(gameData);
 
         // Clear current preview Tiles.
         eraseOldPreview();
 
         // Draw new preview Tiles.
-        for (Tile tile : currentTetromino.getTiles())
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
         {
-            // Get new preview Tile positions by adding the shortest distance in tileDistances to each Tile.
-            preview[previewTileIndex].setX(tile.getX());
-            preview[previewTileIndex].setY(tile.getY() + tetrominoDistanceToPlacement);
-
-            getRowAndCol(tile, tetrominoDistanceToPlacement);
+            // Get new preview Tile positions by adding the distance to placement to each Tile's row.
+            previewRows[tile] = currentTetromino.getTileRow(tile) + tetrominoDistanceToPlacement;
+            previewCols[tile] = currentTetromino.getTileCol(tile);
 
             // Draw the preview Tiles unless preview is in the same position as the current Tetromino.
-            if (!gameData.getGameboard()[row][col].getIsPlacedTetrominoTile())
-                gameData.getGameboard()[row][col].setTileType(TileType.PREVIEW);
-
-            previewTileIndex++;
+            if (!gameData.isOccupied(previewRows[tile], previewCols[tile]))
+                gameData.setBoardTileType(previewRows[tile], previewCols[tile], TileType.PREVIEW);
         }
     }
 
@@ -761,12 +544,10 @@ public class Game
      */
     public void eraseOldPreview()
     {
-        for (Tile tile : preview)
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
         {
-            getRowAndCol(tile);
-
-            if (!gameData.getGameboard()[row][col].getIsPlacedTetrominoTile())
-                gameData.getGameboard()[row][col].setTileType(TileType.EMPTY);
+            if (!gameData.isOccupied(previewRows[tile], previewCols[tile]))
+                gameData.setBoardTileType(previewRows[tile], previewCols[tile], TileType.EMPTY);
         }
     }
 
@@ -774,7 +555,15 @@ public class Game
      * @return The current Tetromino.
      */
     public Tetromino getCurrentTetromino() {
-        return currentTetromino;
+        return engine.getCurrentTetromino();
+    }
+
+    /**
+     * @return The game's GameEngine.
+     */
+    public GameEngine getEngine()
+    {
+        return engine;
     }
 
     /**
@@ -851,22 +640,6 @@ public class Game
         return renderer;
     }
 
-    /**
-     * Set isUpPressed to the boolean value passed in.
-     * @param status Boolean indicating whether TetrisController's up key is pressed or not.
-     */
-    public void setIsUpPressed(boolean status) {
-        isUpPressed = status;
-    }
-
-    /**
-     * Set isDownPressed to the boolean value passed in.
-     * @param status Boolean indicating whether TetrisController's down key is pressed or not.
-     */
-    public void setIsDownPressed(boolean status) {
-        isDownPressed = status;
-    }
-
     /**
      * Set isMenuActive to the boolean value passed in.
      * @param status Boolean indicating whether menu is active or not.
@@ -911,7 +684,7 @@ public class Game
      */
     public boolean isDelayActive()
     {
-        return isDelayActive;
+        return engine.isDelayActive();
     }
 
     /**
@@ -919,7 +692,7 @@ public class Game
      */
     public boolean isAnimationActive()
     {
-        return !isAnimationActive;
+        return !engine.isAnimationActive();
     }
 
     /**
@@ -930,228 +703,15 @@ public class Game
         Platform.exit();
     }
 
-    /**
-     * After row clear animation, clear remaining Tiles and drop the cleared rows down.
-     */
-    private void dropClearedRows()
-    {
-        int topRowWithPlacedTile = 0;
-        boolean rowHasPlacedTiles;
-        boolean skipRow;
-
-        // Get the tallest row on the game board that has placed tiles in it.
-        for (int r = indexesOfRowsToClear.get(indexesOfRowsToClear.size() - 1); r > 0; r--)
-        {
-            rowHasPlacedTiles = false;
-
-            for (Tile tile : gameData.getGameboard()[r - 1])
-            {
-                if (tile.getIsPlacedTetrominoTile())
-                {
-                    rowHasPlacedTiles = true;
-                    break;
-                }
-            }
-
-            if (!rowHasPlacedTiles)
-            {
-                topRowWithPlacedTile = r;
-                break;
-            }
-        }
-
-        // Clear animated rows.
-        for(int rowIndex : indexesOfRowsToClear)
-        {
-            for (Tile tile : gameData.getGameboard()[rowIndex])
-            {
-                tile.setTileType(TileType.EMPTY);
-                tile.setIsPlacedTetrominoTile(false);
-            }
-        }
-
-        // Starting with the number of the row furthest down row being cleared, iterate rows backwards.
-        // On each row that has not been cleared, calculate how many rows it needs to drop to compensate
-        // for the cleared row(s) underneath it.
-        for (int rowToDrop = indexesOfRowsToClear.get(0); rowToDrop >= topRowWithPlacedTile; rowToDrop--)
-        {
-            // If rowToDrop is a row that has been cleared, move on to the next row up.
-            skipRow = indexesOfRowsToClear.contains(rowToDrop);
-
-            // If rowToDrop is not a cleared row, calculate how many rows it needs to drop, exchange types and
-            // placement status with the target row, and then clear rowToDrop. Repeat until the tallest row
-            // with placed tiles has been dropped.
-            if (!skipRow)
-            {
-                int dropDistance = Helper.getTetrominoDropDistance(gameData.getGameboard()[rowToDrop], gameData.getGameboard());
-                int targetRow = Helper.getRow(gameData.getGameboard()[rowToDrop][col], dropDistance);
-
-                for (int col = 0; col < Constants.GAMEBOARD_COLS; col++)
-                {
-                    gameData.getGameboard()[targetRow][col].setTileType(gameData.getGameboard()[rowToDrop][col].getType());
-                    gameData.getGameboard()[targetRow][col].setIsPlacedTetrominoTile(gameData.getGameboard()[rowToDrop][col].getIsPlacedTetrominoTile());
-                    gameData.getGameboard()[rowToDrop][col].setTileType(TileType.EMPTY);
-                    gameData.getGameboard()[rowToDrop][col].setIsPlacedTetrominoTile(false);
-                }
-            }
-        }
-
-        // Once all rows have been cleared, reset the list of rows that need to be cleared.
-        indexesOfRowsToClear.clear();
-    }
-
-    /**
-     * Drop the Tetromino to its placement location - used after delay.
-     */
-    private void forceDropTetromino()
-    {
-        // Stores the distance that the current Tetromino is from its current
-        int tetrominoDistanceToPlacement = Helper.getTetrominoDropDistance(currentTetromino.getTiles(), gameData.getGameboard());
-
-        if (tetrominoDistanceToPlacement > 0)
-        {
-            for (Tile tile : currentTetromino.getTiles())
-                tile.setY(tile.getY() + tetrominoDistanceToPlacement);
-        }
-    }
-
-    /**
-     * Get the current game board row and column of the Tile passed in.
-     * @param tile The Tile to check.
-     */
-    private void getRowAndCol(Tile tile)
-    {
-        row = Helper.getRow(tile);
-        col = Helper.getCol(tile);
-    }
-
-    /**
-     * Get the current game board row and column of the placement position of the Tile passed in.
-     * @param tile The Tile to check.
-     * @param distance The distance to placement of the Tile.
-     */
-    private void getRowAndCol(Tile tile, int distance)
-    {
-        row = Helper.getRow(tile, distance);
-        col = Helper.getCol(tile);
-    }
-
     private void initializeTileLists()
     {
-        prevNextTetrominoTiles = new Tile[nextTetromino.getTiles().length];
-        preview = new Tile[currentTetromino.getTiles().length];
-        tetrominoDistanceToPlacement = Helper.getTetrominoDropDistance(currentTetromino.getTiles(), gameData.getGameboard());
-        int prevIndex = 0;
+        Tetromino currentTetromino = engine.getCurrentTetromino();
+        tetrominoDistanceToPlacement = currentTetromino.getDropDistance(gameData);
 
-        for (Tile tile : currentTetromino.getTiles())
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
         {
-            preview[prevIndex] = new Tile(tile.getX(), tile.getY() + tetrominoDistanceToPlacement, TileType.PREVIEW);
-            prevNextTetrominoTiles[prevIndex] = new Tile(0, 0, TileType.EMPTY);
-            prevIndex++;
-        }
-    }
-
-    /**
-     * Run tests to check if game over state has been reached.
-     */
-    private void checkIfGameIsOver()
-    {
-        boolean needToDrawLastTetrominos = false;       // Flag that indicates whether the placed Tetromino that ends the game
-                                                        // has room to be drawn to the game board or not.
-        boolean gameOverTestResult = false;             // Flag indicating game over test result.
-        int previousNextIndex = 0;
-
-        // Update previous Next Tetromino Tiles and clear Next Tetromino display.
-        for (Tile tile : nextTetromino.getTiles())
-        {
-            prevNextTetrominoTiles[previousNextIndex].setX(tile.getX());
-            prevNextTetrominoTiles[previousNextIndex].setY(tile.getY());
-            prevNextTetrominoTiles[previousNextIndex].setTileType(tile.getType());
-            getRowAndCol(tile);
-            gameData.getNextDisplay()[row][col].setTileType(TileType.EMPTY);
-            previousNextIndex++;
-        }
-
-        // Get the next type for current tetromino and generate new type for next.
-        currentTetromino.setTetrominoType(nextTetromino.getTetrominoType());
-        nextTetromino.setTetrominoType(nextTetromino.generateNewType());
-
-        // Reset Tetromino positions and increment the count of the newly current type.
-        currentTetromino.resetTetromino(Constants.CURRENT_TETROMINO_STARTING_X, Constants.CURRENT_TETROMINO_STARTING_Y);
-        nextTetromino.resetTetromino(Constants.NEXT_TETROMINO_STARTING_X, Constants.NEXT_TETROMINO_STARTING_Y);
-        gameClockTimePassed = 0;
-
-        // Test 1
-        // If this test is failed, then the most recently placed Tetromino ended the game because the next one will not
-        // fit on the game board.
-        for (Tile tile : getCurrentTetromino().getTiles())
-        {
-            getRowAndCol(tile);
-
-            if (row <= 1 && gameData.getGameboard()[row][col].getIsPlacedTetrominoTile())
-            {
-                gameOverTestResult = true;
-                break;
-            }
-        }
-
-        // Test 2
-        // If test 1 was passed, but this test fails, then the new current Tetromino fits on the game board, but it
-        // triggers game over.
-        if (!gameOverTestResult)
-        {
-            for (Tile tile : currentTetromino.getTiles())
-            {
-                getRowAndCol(tile);
-
-                if (row <= 1 && gameData.getGameboard()[row + 1][col].getIsPlacedTetrominoTile())
-                {
-                    needToDrawLastTetrominos = true;
-                    gameOverTestResult = true;
-                    break;
-                }
-            }
-        }
-
-        // If game over state has been reached, render graphics one last time and then end game.
-        // If game ending Tetromino could not fit, then set the Next Tetromino display to show the
-        // previous Next Tetromino.
-        if (gameOverTestResult)
-        {
-            // If the new Tetromino is what triggers the end game, then place it on the game board, increment its type,
-            // and update the Next Display.
-            if (needToDrawLastTetrominos)
-            {
-                for (Tile tile : currentTetromino.getTiles())
-                {
-                    getRowAndCol(tile);
-                    gameData.getGameboard()[row][col].setTileType(tile.getType());
-                }
-
-                incrementTetrominoTypeCount(currentTetromino.getTetrominoType());
-
-                // Update the next Tetromino display to reflect its new TileType.
-                for (Tile tile : nextTetromino.getTiles())
-                {
-                    getRowAndCol(tile);
-                    gameData.getNextDisplay()[row][col].setTileType(tile.getType());
-                }
-            }
-            // If game ending is caused by the last placed Tetromino, then update the Next Display
-            // to reflect the previous Next Tetromino's TileType.
-            else
-            {
-                for (Tile tile : prevNextTetrominoTiles)
-                {
-                    getRowAndCol(tile);
-                    gameData.getNextDisplay()[row][col].setTileType(currentTetromino.getTetrominoType());
-                }
-            }
-
-            // Render game board and next display graphics one last time and then end the game.
-            renderer.drawGameSprites(gameData.getGameboard());
-            renderer.drawGameSprites(gameData.getNextDisplay());
-            gameOver(false);
+            previewRows[tile] = currentTetromino.getTileRow(tile) + tetrominoDistanceToPlacement;
+            previewCols[tile] = currentTetromino.getTileCol(tile);
         }
     }
 
@@ -1164,13 +724,10 @@ public class Game
     {
         isGameActive = false;
         inBetweenGames = true;
-        tetrominoDropper.stop();
-        tetrisCharRotater.stop();
+        tetrisCharsAreRotating = false;
+        frameStats.appendCsv(Path.of(Constants.FRAME_STATS_FILE));
         soundPlayer.stopMusic();
-        gameClockTimePassed = 0;
-
-        for (Tile tile : currentTetromino.getTiles())
-            tile.setIsPlacedTetrominoTile(false);
+        engine.endGame();
 
         if (!wasGameQuit)
         {
@@ -1201,14 +758,6 @@ public class Game
         }
     }
 
-    /**
-     * @return The game clock AnimationTimer.
-     */
-    public AnimationTimer getTetrominoDropper()
-    {
-        return tetrominoDropper;
-    }
-
     public void setGameHasBeenRestarted(boolean status)
     {
         gameHasBeenRestarted = status;
@@ -1223,14 +772,11 @@ public class Game
     }
 
     /**
-     * Pause the game and store the time of the pause so that when resumed, it can be subtracted from the game clock timer
-       so that effectively no time has passed since pausing, making it so that the Tetromino does not immediately fall upon
-       resuming game.
+     * Pause the game. The GameEngine is not advanced while the game is paused, so no time passes for the current Tetromino.
      */
     public void pauseGame()
     {
         isGamePaused = true;
-        pauseTime = System.nanoTime();
     }
 
     /**
@@ -1239,10 +785,6 @@ public class Game
     public void resumeGame()
     {
         isGamePaused = false;
-        long now = System.nanoTime();
-        long elapsedTimePaused = now - pauseTime;
-        gameClockTimePassed += elapsedTimePaused;
-        pauseTime = 0;
     }
 
     /**
@@ -1250,7 +792,7 @@ public class Game
      */
     public int getScore()
     {
-        return score;
+        return engine.getScore();
     }
 
     /**
@@ -1278,16 +820,6 @@ public class Game
         return inBetweenGames;
     }
 
-    public void setGravity(float newGravity)
-    {
-        gravity = newGravity;
-    }
-
-    public float getGravity()
-    {
-        return gravity;
-    }
-
     public PlayerData[] getTopPlayersData()
     {
         return topPlayersData;
@@ -1301,7 +833,7 @@ public class Game
         topPlayersData = database.retrieveEntries();
 
         for (PlayerData entry : topPlayersData)
-            System.out.println("N: "+entry.getName()+", "+"S: "+entry.getScore());
+            EventLog.log(LogEvent.TOP_PLAYER_LOADED, entry.getName(), entry.getScore());
 
         menuData.setTopScoresData(topPlayersData);
     }
@@ -18,12 +18,51 @@ public class GameData
     private char[] tetrisChars;
     private final Tile[][] gameboard;
     private final Tile[][] nextDisplay;
+    static final int WORD_SIZE = 32;                        // The number of columns stored in each bitboard word.
+
+    private final int rows;                                 // The number of rows in the game board.
+    private final int cols;                                 // The number of columns in the game board.
+    private final int wordsPerRow;                          // The number of bitboard words needed to store one row.
+    private final int[] boardWords;                         // Bitboard of the game board - 'wordsPerRow' words per row, where bit
+                                                            // 'col % 32' of word 'col / 32' is set when the Tile in that column
+                                                            // is a placed Tetromino Tile.
+    private final int[] fullRowWords;                       // The words of a row whose Tiles are all placed.
+    private final int[] columnHeights;                      // Skyline of the game board - the height of the highest placed
+                                                            // Tile in each column, measured in rows from the bottom.
+    private final int[] emptyRowWords;                      // The words of an empty row, shared by every empty snapshot row.
+    private final TileType[] emptyRowTypes;                 // The TileTypes of an empty row, shared by every empty snapshot row.
+    private BoardSnapshot lastSnapshot;                     // The most recently created or restored snapshot.
+    private final long[] columnKeys;                        // Zobrist key of each column.
+    private final long[] rowWeights;                        // Zobrist weight of each row.
+    private final long[] rowHashes;                         // XOR of the column keys of the placed Tiles in each row.
+    private long boardHash;                                 // Sum of each row's hash times its weight.
+    private final boolean[] isRowChangedSinceSnapshot;      // Which rows have changed since 'lastSnapshot'.
+    private final long[] dirtyTileWords;                    // Bitset of the game board Tiles whose TileType has changed since
+                                                            // they were last drawn - bit 'row * cols + col'.
+    private int dirtyWordCursor;                            // The first word of 'dirtyTileWords' that may have a bit set.
 
     /**
-     * Constructor initializes Tiles arrays used in game.
+     * Constructor initializes Tiles arrays used in game, with a game board of the default size.
      */
     public GameData()
     {
+        this(Constants.GAMEBOARD_ROWS, Constants.GAMEBOARD_COLS);
+    }
+
+    /**
+     * Constructor initializes Tiles arrays used in game, with a game board of any size.
+     * Only the default size fits the game screen, so other sizes are meant for running the GameEngine without a display.
+     * @param boardRows The number of rows in the game board.
+     * @param boardCols The number of columns in the game board - at least 4, so that every Tetromino fits.
+     */
+    public GameData(int boardRows, int boardCols)
+    {
+        if (boardRows < Constants.NEXT_DISPLAY_SIZE || boardCols < Constants.NEXT_DISPLAY_SIZE)
+            throw new IllegalArgumentException("The game board must be at least " + Constants.NEXT_DISPLAY_SIZE + " by " + Constants.NEXT_DISPLAY_SIZE);
+
+        rows = boardRows;
+        cols = boardCols;
+
         stats = new Tile[Constants.NUM_OF_TETROMINOS][Constants.STATS_PLACE_NUMBER];
         lines = new Tile[Constants.LINES_PLACE_NUMBER];
         topScore = new Tile[Constants.TOP_SCORE_PLACE_NUMBER];
@@ -31,9 +70,28 @@ public class GameData
         level = new Tile[Constants.LEVEL_PLACE_NUMBER];
         tetrisDisplay = new Tile[Constants.NUM_OF_CHARS_IN_TETRIS];
         tetrisChars = "      ".toCharArray();
-        gameboard = new Tile[Constants.GAMEBOARD_ROWS][Constants.GAMEBOARD_COLS];
+        gameboard = new Tile[rows][cols];
         nextDisplay  = new Tile[Constants.NEXT_DISPLAY_SIZE][Constants.NEXT_DISPLAY_SIZE];
         tileDisplays = new Tile[][][]{gameboard, nextDisplay};
+        wordsPerRow = (cols + WORD_SIZE - 1) / WORD_SIZE;
+        boardWords = new int[rows * wordsPerRow];
+        fullRowWords = new int[wordsPerRow];
+        columnHeights = new int[cols];
+        emptyRowWords = new int[wordsPerRow];
+        emptyRowTypes = new TileType[cols];
+        isRowChangedSinceSnapshot = new boolean[rows];
+        Arrays.fill(emptyRowTypes, TileType.EMPTY);
+        columnKeys = Zobrist.createColumnKeys(cols);
+        rowWeights = Zobrist.createRowWeights(rows);
+        rowHashes = new long[rows];
+        dirtyTileWords = new long[(rows * cols + Long.SIZE - 1) / Long.SIZE];
+
+        // Every word of a full row is all 1's, except the last word when the columns don't fill it.
+        Arrays.fill(fullRowWords, -1);
+        if (cols % WORD_SIZE != 0)
+            fullRowWords[wordsPerRow - 1] = (1 << (cols % WORD_SIZE)) - 1;
+
+        populateBoardTiles();
     }
 
     /**
@@ -95,7 +153,7 @@ public class GameData
     }
 
     /**
-     * Initializes Tiles for all Tile arrays used in gameplay.
+     * Initializes Tiles for all Tile arrays used in the game's displays.
      * @param top The top score from the database.
      */
     public void mapInitialGameData(int top)
@@ -107,7 +165,6 @@ public class GameData
         initializeGameTileData(score, Constants.SCORE_STARTING_X, Constants.SCORE_ENDING_X, Constants.SCORE_STARTING_Y, Constants.SCORE_ENDING_Y, Constants.SCORE_X_INCREMENT, Constants.SCORE_Y_INCREMENT);
         initializeGameTileData(level, Constants.LEVEL_STARTING_X, Constants.LEVEL_ENDING_X, Constants.LEVEL_STARTING_Y, Constants.LEVEL_ENDING_Y, Constants.LEVEL_X_INCREMENT, Constants.LEVEL_Y_INCREMENT);
         initializeGameTileData(tetrisDisplay, Constants.TETRIS_STARTING_X, Constants.TETRIS_ENDING_X, Constants.TETRIS_STARTING_Y, Constants.TETRIS_ENDING_Y, Constants.TETRIS_X_INCREMENT, Constants.TETRIS_Y_INCREMENT);
-        populateBoardTiles();
     }
 
     /**
@@ -163,12 +220,14 @@ public class GameData
      */
     public void updateNextDisplay(Tetromino nextTetromino)
     {
-        for (Tile tile : nextTetromino.getTiles())
+        for (Tile[] displayRow : nextDisplay)
         {
-            int row = Helper.getRow(tile);
-            int col = Helper.getCol(tile);
-            nextDisplay[row][col].setTileType(tile.getType());
+            for (Tile displayTile : displayRow)
+                displayTile.setTileType(TileType.EMPTY);
         }
+
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+            nextDisplay[nextTetromino.getTileRow(tile)][nextTetromino.getTileCol(tile)].setTileType(nextTetromino.getTetrominoType());
     }
 
     /**
@@ -178,25 +237,13 @@ public class GameData
      */
     public void updateTileData(Tile[] tiles, int numToConvert)
     {
-        int numOfDigits = tiles.length;
-
-        // Break 'numToConvert' into numbers places and store the numbers places as a list of integers.
-        // If the integer list has fewer digits than 'numOfDigits', then fill the remaining digits with 0's.
-        ArrayList<Integer> numberInPlaces = Helper.breakNumIntoPlaces(numToConvert);
-        if (numberInPlaces.size() < numOfDigits)
+        // Set each Tile in 'tiles' to the TileType of one of the number's places, starting with the ones place in the last
+        // Tile. Once 'numToConvert' runs out of places, the remaining Tiles are filled with 0's.
+        for (int digitIndex = tiles.length - 1; digitIndex >= 0; digitIndex--)
         {
-            while (numOfDigits - numberInPlaces.size() > 0)
-                numberInPlaces.add(0);
-        }
-
-        // Reverse the integer list so that the 0's come first.
-        Collections.reverse(numberInPlaces);
+            Tile tile = tiles[digitIndex];
 
-        // Set each Tile in 'tiles' to the TileType corresponding to the number in its same index in the integer list.
-        int digitIndex = 0;
-        for (Tile tile : tiles)
-        {
-            switch (numberInPlaces.get(digitIndex))
+            switch (numToConvert % 10)
             {
                 case 0 -> tile.setTileType(TileType.ZERO);
                 case 1 -> tile.setTileType(TileType.ONE);
@@ -210,7 +257,7 @@ public class GameData
                 case 9 -> tile.setTileType(TileType.NINE);
             }
 
-            digitIndex++;
+            numToConvert /= 10;
         }
     }
 
@@ -227,13 +274,13 @@ public class GameData
 
         for (Tile[][] display : tileDisplays)
         {
-            if (Arrays.deepEquals(display, gameboard))
+            if (display == gameboard)
             {
                 startingX = Constants.GAMEBOARD_STARTING_X;
                 x = startingX;
                 y = Constants.GAMEBOARD_STARTING_Y;
-                rowCount = Constants.GAMEBOARD_ROWS;
-                colCount = Constants.GAMEBOARD_COLS;
+                rowCount = rows;
+                colCount = cols;
             }
             else
             {
@@ -267,15 +314,21 @@ public class GameData
     public void resetBoardTiles()
     {
         // Reset all board tiles back to empty and unplaced.
-        for (Tile[] boardRow : gameboard)
+        for (int row = 0; row < rows; row++)
         {
-            for (Tile boardTile : boardRow)
+            for (int col = 0; col < cols; col++)
             {
-                boardTile.setTileType(TileType.EMPTY);
-                boardTile.setIsPlacedTetrominoTile(false);
+                setBoardTileType(row, col, TileType.EMPTY);
+                gameboard[row][col].setIsPlacedTetrominoTile(false);
             }
         }
 
+        Arrays.fill(boardWords, 0);
+        Arrays.fill(columnHeights, 0);
+        Arrays.fill(isRowChangedSinceSnapshot, true);
+        Arrays.fill(rowHashes, 0);
+        boardHash = 0;
+
         for (Tile[] boardRow : nextDisplay)
         {
             for (Tile boardTile : boardRow)
@@ -283,6 +336,453 @@ public class GameData
         }
     }
 
+    /**
+     * Place a Tile on the game board, updating both the board Tile and the bitboard.
+     * @param row The row of the Tile being placed.
+     * @param col The column of the Tile being placed.
+     * @param type The TileType of the placed Tile.
+     */
+    public void placeTile(int row, int col, TileType type)
+    {
+        if (!isOccupied(row, col))
+            setRowHash(row, rowHashes[row] ^ columnKeys[col]);
+
+        setBoardTileType(row, col, type);
+        gameboard[row][col].setIsPlacedTetrominoTile(true);
+        boardWords[getWordIndex(row, col)] |= getBit(col);
+        isRowChangedSinceSnapshot[row] = true;
+
+        if (rows - row > columnHeights[col])
+            columnHeights[col] = rows - row;
+    }
+
+    /**
+     * Clear a Tile on the game board, updating both the board Tile and the bitboard.
+     * @param row The row of the Tile being cleared.
+     * @param col The column of the Tile being cleared.
+     */
+    public void clearTile(int row, int col)
+    {
+        if (isOccupied(row, col))
+            setRowHash(row, rowHashes[row] ^ columnKeys[col]);
+
+        setBoardTileType(row, col, TileType.EMPTY);
+        gameboard[row][col].setIsPlacedTetrominoTile(false);
+        boardWords[getWordIndex(row, col)] &= ~getBit(col);
+        isRowChangedSinceSnapshot[row] = true;
+
+        if (rows - row == columnHeights[col])
+            rescanColumnHeight(col, row + 1);
+    }
+
+    /**
+     * Remove every full row from the game board and drop the rows above them, in a single bottom-up pass.
+     * Each surviving row is moved straight to its final row, so the cost only depends on the height of the stack, no
+       matter how many rows are cleared or whether they are next to each other.
+     * @return The number of rows cleared.
+     */
+    public int clearFullRows()
+    {
+        int topRow = rows;                              // The highest row holding a placed Tile.
+        int targetRow = rows - 1;                       // The row that the next surviving row is moved into.
+
+        for (int col = 0; col < cols; col++)
+        {
+            topRow = Math.min(topRow, rows - columnHeights[col]);
+            columnHeights[col] = 0;
+        }
+
+        for (int row = rows - 1; row >= topRow; row--)
+        {
+            if (isRowFull(row))
+                continue;
+
+            if (targetRow != row)
+                copyRow(row, targetRow);
+
+            // Rows are visited from the bottom up, so the last row to set a column's height holds its highest Tile.
+            for (int word = 0; word < wordsPerRow; word++)
+            {
+                for (int mask = boardWords[targetRow * wordsPerRow + word]; mask != 0; mask &= mask - 1)
+                    columnHeights[word * WORD_SIZE + Integer.numberOfTrailingZeros(mask)] = rows - targetRow;
+            }
+
+            targetRow--;
+        }
+
+        // Everything above the compacted stack has either been cleared or moved down, so empty it.
+        for (int row = targetRow; row >= topRow; row--)
+        {
+            for (int col = 0; col < cols; col++)
+            {
+                setBoardTileType(row, col, TileType.EMPTY);
+                gameboard[row][col].setIsPlacedTetrominoTile(false);
+            }
+
+            Arrays.fill(boardWords, row * wordsPerRow, (row + 1) * wordsPerRow, 0);
+            isRowChangedSinceSnapshot[row] = true;
+            setRowHash(row, 0);
+        }
+
+        return targetRow - topRow + 1;
+    }
+
+    /**
+     * Change the TileType of a game board Tile, and mark the Tile to be redrawn if the type is different.
+     * Every change to a game board Tile's TileType should go through here, so the renderer can redraw only changed Tiles.
+     * @param row The row of the Tile.
+     * @param col The column of the Tile.
+     * @param type The new TileType.
+     */
+    public void setBoardTileType(int row, int col, TileType type)
+    {
+        Tile tile = gameboard[row][col];
+
+        if (tile.getType() == type)
+            return;
+
+        tile.setTileType(type);
+
+        int index = row * cols + col;
+        int word = index / Long.SIZE;
+        dirtyTileWords[word] |= 1L << (index % Long.SIZE);
+        dirtyWordCursor = Math.min(dirtyWordCursor, word);
+    }
+
+    /**
+     * Take one game board Tile out of the set of Tiles that need to be redrawn.
+     * @return The index 'row * cols + col' of the Tile, or -1 if every Tile has been redrawn.
+     */
+    public int pollDirtyTile()
+    {
+        for (; dirtyWordCursor < dirtyTileWords.length; dirtyWordCursor++)
+        {
+            long word = dirtyTileWords[dirtyWordCursor];
+
+            if (word != 0)
+            {
+                dirtyTileWords[dirtyWordCursor] = word & (word - 1);
+                return dirtyWordCursor * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Copy the Tiles and bitboard words of one game board row into another row.
+     * @param fromRow The row being copied.
+     * @param toRow The row that receives the Tiles of 'fromRow'.
+     */
+    private void copyRow(int fromRow, int toRow)
+    {
+        for (int col = 0; col < cols; col++)
+        {
+            setBoardTileType(toRow, col, gameboard[fromRow][col].getType());
+            gameboard[toRow][col].setIsPlacedTetrominoTile(gameboard[fromRow][col].getIsPlacedTetrominoTile());
+        }
+
+        System.arraycopy(boardWords, fromRow * wordsPerRow, boardWords, toRow * wordsPerRow, wordsPerRow);
+        isRowChangedSinceSnapshot[toRow] = true;
+        setRowHash(toRow, rowHashes[fromRow]);
+    }
+
+    /**
+     * Set the Zobrist hash of a row and update the board hash to match.
+     * @param row The row whose hash changed.
+     * @param newRowHash The new hash of the row.
+     */
+    private void setRowHash(int row, long newRowHash)
+    {
+        boardHash += (newRowHash - rowHashes[row]) * rowWeights[row];
+        rowHashes[row] = newRowHash;
+    }
+
+    /**
+     * @return The Zobrist hash of which game board cells hold placed Tiles.
+     */
+    public long getBoardHash()
+    {
+        return boardHash;
+    }
+
+    /**
+     * Create an immutable snapshot of the placed Tiles on the game board.
+     * Rows that have not changed since the last snapshot are shared with it rather than copied, and empty rows all
+       share one empty row.
+     * @return The snapshot.
+     */
+    public BoardSnapshot snapshot()
+    {
+        int[][] rowWords = new int[rows][];
+        TileType[][] rowTypes = new TileType[rows][];
+
+        for (int row = 0; row < rows; row++)
+        {
+            if (lastSnapshot != null && !isRowChangedSinceSnapshot[row])
+            {
+                rowWords[row] = lastSnapshot.getRowWords(row);
+                rowTypes[row] = lastSnapshot.getRowTypes(row);
+            }
+            else if (isRowEmpty(row))
+            {
+                rowWords[row] = emptyRowWords;
+                rowTypes[row] = emptyRowTypes;
+            }
+            else
+            {
+                rowWords[row] = Arrays.copyOfRange(boardWords, row * wordsPerRow, (row + 1) * wordsPerRow);
+                rowTypes[row] = new TileType[cols];
+
+                // Only placed Tiles are part of the snapshot - preview Tiles are left out.
+                for (int col = 0; col < cols; col++)
+                    rowTypes[row][col] = isOccupied(row, col) ? gameboard[row][col].getType() : TileType.EMPTY;
+            }
+        }
+
+        lastSnapshot = new BoardSnapshot(rowWords, rowTypes, emptyRowWords, emptyRowTypes, fullRowWords, 0);
+        Arrays.fill(isRowChangedSinceSnapshot, false);
+
+        return lastSnapshot;
+    }
+
+    /**
+     * Set the game board to the placed Tiles of a snapshot.
+     * Rows that still match the last snapshot and haven't changed since are skipped.
+     * @param snapshot The snapshot to restore - it must have the same size as the game board.
+     */
+    public void restore(BoardSnapshot snapshot)
+    {
+        if (snapshot.getRows() != rows || snapshot.getCols() != cols)
+            throw new IllegalArgumentException("The snapshot is " + snapshot.getRows() + " by " + snapshot.getCols() + ", but the game board is " + rows + " by " + cols);
+
+        for (int row = 0; row < rows; row++)
+        {
+            if (lastSnapshot != null && !isRowChangedSinceSnapshot[row] && snapshot.getRowWords(row) == lastSnapshot.getRowWords(row))
+                continue;
+
+            System.arraycopy(snapshot.getRowWords(row), 0, boardWords, row * wordsPerRow, wordsPerRow);
+            TileType[] types = snapshot.getRowTypes(row);
+            long rowHash = 0;
+
+            for (int word = 0; word < wordsPerRow; word++)
+            {
+                for (int mask = boardWords[row * wordsPerRow + word]; mask != 0; mask &= mask - 1)
+                    rowHash ^= columnKeys[word * WORD_SIZE + Integer.numberOfTrailingZeros(mask)];
+            }
+
+            setRowHash(row, rowHash);
+
+            for (int col = 0; col < cols; col++)
+            {
+                setBoardTileType(row, col, types[col]);
+                gameboard[row][col].setIsPlacedTetrominoTile(isOccupied(row, col));
+            }
+        }
+
+        // Rebuild the column heights from the bottom up, so the last row to set a column's height holds its highest Tile.
+        Arrays.fill(columnHeights, 0);
+
+        for (int row = rows - 1; row >= 0; row--)
+        {
+            for (int word = 0; word < wordsPerRow; word++)
+            {
+                for (int mask = boardWords[row * wordsPerRow + word]; mask != 0; mask &= mask - 1)
+                    columnHeights[word * WORD_SIZE + Integer.numberOfTrailingZeros(mask)] = rows - row;
+            }
+        }
+
+        lastSnapshot = snapshot;
+        Arrays.fill(isRowChangedSinceSnapshot, false);
+    }
+
+    /**
+     * Calculate the number of rows a Tile can drop before landing on a placed Tile or the bottom of the game board.
+     * When the Tile is above its column's highest placed Tile this is a single lookup in the column heights.
+     * A Tile underneath an overhang falls back to scanning the bitboard below it.
+     * @param row The row of the Tile being dropped.
+     * @param col The column of the Tile being dropped.
+     * @return The number of rows the Tile can drop.
+     */
+    public int getRowsToDrop(int row, int col)
+    {
+        int highestPlacedRow = rows - columnHeights[col];
+
+        if (row < highestPlacedRow)
+            return highestPlacedRow - row - 1;
+
+        int rowsToDrop = 0;
+
+        while (!collides(row + rowsToDrop + 1, col))
+            rowsToDrop++;
+
+        return rowsToDrop;
+    }
+
+    /**
+     * @param col The column to check.
+     * @return The height of the highest placed Tile in the column, measured in rows from the bottom of the game board.
+     */
+    public int getColumnHeight(int col)
+    {
+        return columnHeights[col];
+    }
+
+    /**
+     * Find the highest placed Tile in a column, starting from 'fromRow' and searching downwards, and store its height.
+     * @param col The column to rescan.
+     * @param fromRow The row to start searching from.
+     */
+    private void rescanColumnHeight(int col, int fromRow)
+    {
+        columnHeights[col] = 0;
+
+        for (int row = fromRow; row < rows; row++)
+        {
+            if (isOccupied(row, col))
+            {
+                columnHeights[col] = rows - row;
+                break;
+            }
+        }
+    }
+
+    /**
+     * @param row The row to check.
+     * @param col The column to check.
+     * @return Whether the game board cell holds a placed Tile.
+     */
+    public boolean isOccupied(int row, int col)
+    {
+        return (boardWords[getWordIndex(row, col)] & getBit(col)) != 0;
+    }
+
+    /**
+     * Check whether a whole Tetromino would collide with the game board, one row mask at a time.
+     * Cells outside of the game board count as collisions.
+     * @param pieceRowMasks One mask per row of the Tetromino's bounding box, where bit 'c' is set if the box column 'c'
+                            holds a Tile.
+     * @param row The game board row of the bounding box's top row.
+     * @param col The game board column of the bounding box's left column.
+     * @return Whether any Tile of the Tetromino is outside the game board or overlaps a placed Tile.
+     */
+    public boolean collides(int[] pieceRowMasks, int row, int col)
+    {
+        for (int boxRow = 0; boxRow < pieceRowMasks.length; boxRow++)
+        {
+            int pieceMask = pieceRowMasks[boxRow];
+
+            if (pieceMask == 0)
+                continue;
+
+            int boardRow = row + boxRow;
+
+            if (boardRow < 0 || boardRow >= rows)
+                return true;
+
+            // Any bits shifted past the left border are out of bounds, as are any bits past the right border.
+            if (col < 0 && (pieceMask & ((1 << -col) - 1)) != 0)
+                return true;
+
+            if (col + WORD_SIZE - Integer.numberOfLeadingZeros(pieceMask) > cols)
+                return true;
+
+            int startCol = Math.max(col, 0);
+            int shiftedMask = col >= 0 ? pieceMask : pieceMask >>> -col;
+            int wordIndex = getWordIndex(boardRow, startCol);
+            int bitIndex = startCol % WORD_SIZE;
+
+            if (((shiftedMask << bitIndex) & boardWords[wordIndex]) != 0)
+                return true;
+
+            // On boards wider than one word, the Tiles can spill over into the next word of the row.
+            if (bitIndex != 0 && ((shiftedMask >>> (WORD_SIZE - bitIndex)) & (wordIndex + 1 < boardWords.length ? boardWords[wordIndex + 1] : 0)) != 0)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Check whether a Tile at the given cell would collide with the game board.
+     * Cells outside of the game board count as collisions.
+     * @param row The row to check.
+     * @param col The column to check.
+     * @return Whether the cell is outside the game board or holds a placed Tile.
+     */
+    public boolean collides(int row, int col)
+    {
+        if (row < 0 || row >= rows || col < 0 || col >= cols)
+            return true;
+
+        return isOccupied(row, col);
+    }
+
+    /**
+     * @param row The row to check.
+     * @return Whether every Tile in the row is placed.
+     */
+    public boolean isRowFull(int row)
+    {
+        for (int word = 0; word < wordsPerRow; word++)
+        {
+            if (boardWords[row * wordsPerRow + word] != fullRowWords[word])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param row The row to check.
+     * @return Whether any Tile in the row is placed.
+     */
+    public boolean isRowEmpty(int row)
+    {
+        for (int word = 0; word < wordsPerRow; word++)
+        {
+            if (boardWords[row * wordsPerRow + word] != 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param row A game board row.
+     * @param col A game board column.
+     * @return The index in 'boardWords' of the word that holds the cell.
+     */
+    private int getWordIndex(int row, int col)
+    {
+        return row * wordsPerRow + col / WORD_SIZE;
+    }
+
+    /**
+     * @param col A game board column.
+     * @return The bit of the column within its bitboard word.
+     */
+    private static int getBit(int col)
+    {
+        return 1 << (col % WORD_SIZE);
+    }
+
+    /**
+     * @return The number of rows in the game board.
+     */
+    public int getRows()
+    {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the game board.
+     */
+    public int getCols()
+    {
+        return cols;
+    }
+
     /**
      * @return the stats Tile array.
      */
@@ -0,0 +1,986 @@
+package com.example.tetris_clone;
+
+import java.util.*;
+
+/**
+ * This class contains all game rules - the game board, the current and next Tetrominos, gravity, lock delay, line clears,
+   scoring, and leveling - without any dependency on JavaFX.
+ * The game advances one frame at a time through tick() or step(), and anything that needs to react to the game, such as
+   sound or rendering, is told through GameEvents sent to the GameEventListener.
+ */
+
+public class GameEngine
+{
+    // Input flags that can be combined and passed to step().
+    public static final int INPUT_MOVE_LEFT    = 1;
+    public static final int INPUT_MOVE_RIGHT   = 1 << 1;
+    public static final int INPUT_ROTATE_LEFT  = 1 << 2;
+    public static final int INPUT_ROTATE_RIGHT = 1 << 3;
+    public static final int INPUT_HARD_DROP    = 1 << 4;
+    public static final int INPUT_SOFT_DROP    = 1 << 5;
+
+    // The states that the engine can be in.
+    private static final int STATE_FALLING = 0;
+    private static final int STATE_LOCK_DELAY = 1;
+    private static final int STATE_CLEAR_ANIMATION = 2;
+    private static final int STATE_GAME_OVER = 3;
+
+    private final GameData gameData;                    // Stores the game board.
+    private GameEventListener listener;                 // Receives the events emitted by the engine.
+    private final PieceGenerator pieceGenerator;        // Chooses the type of each new Tetromino.
+    private final SplittableRandom seedGenerator;       // Seeds games started without a seed.
+    private long seed;                                  // The seed of the current game's random stream.
+    private SplittableRandom gameRandom;                // The current game's random stream - everything random in the game draws from it.
+    private Tetromino currentTetromino;                 // The Tetromino that is controlled by the player.
+    private Tetromino nextTetromino;                    // The Tetromino that is next in line to be the current Tetromino.
+    private int state;                                  // The current engine state.
+    private int gravityFrameCount;                      // Frames between drops of the current Tetromino at the current level.
+    private int gravityRowCount;                        // Rows the current Tetromino falls on each drop.
+    private boolean isMasterMode;                       // Is the current Tetromino always dropped straight to its placement location (20G) or not
+    private int customGravityFrameCount;                // Frames between drops set by setGravity(), or 0 when gravity follows the level.
+    private int customGravityRowCount;                  // Rows per drop set by setGravity().
+    private int gravityFrameCounter;                    // Frames passed since the current Tetromino last dropped.
+    private int softDropFactor;                         // How many times faster than gravity the current Tetromino falls while soft dropped.
+    private int softDropProgress;                       // The part of a row soft dropped but not fallen yet, in 1/'gravityFrameCount' rows.
+    private int frameCounter;                           // Frames passed in the row clear animation.
+    private int lockDelayFrameCounter;                  // Frames the current Tetromino has spent landed since lock delay last restarted.
+    private int lockDelayResets;                        // Moves and rotations of the current Tetromino since it landed on 'lowestLandedRow'.
+    private int lowestLandedRow;                        // The lowest row the current Tetromino's bottom has landed on, or -1 before it lands.
+    private int lockDelayResetLimit;                    // The most times each Tetromino can restart lock delay.
+    private int score;                                  // The current score.
+    private int lines;                                  // The current number of cleared lines.
+    private int level;                                  // The current level.
+    private int linesNeededToLevel;                     // The number of cleared lines needed to level up.
+    private int linesClearedAtOnce;                     // The number of lines cleared by the most recently placed Tetromino.
+    private int numOfTetrises;                          // Keeps track of how many Tetris' have been earned in the current game.
+    private final int spawnCol;                         // The column that new current Tetrominos spawn in.
+    private final int centerCol;                        // The column just right of the game board's center.
+    private final int animationFrameCount;              // The number of frames that the row clear animation lasts.
+    private final int[] animatedTileIndexes;            // The indexes of the Tiles that the row clear animation starts with.
+    private final int[] rowsToClear;                    // Stores the numbers of game board rows that need Tiles cleared.
+    private int numOfRowsToClear;                       // The number of rows stored in 'rowsToClear'.
+    private boolean isSoftDropping;                     // Is the current Tetromino being soft dropped or not
+    private boolean wasHardDropped;                     // Was the current Tetromino hard dropped or not
+    private boolean hasAwardedTetrisMaster;             // Has tetris master been awarded or not
+
+    /**
+     * Create an engine with its own game data, for running the game without a display.
+     */
+    public GameEngine()
+    {
+        this(new GameData());
+    }
+
+    /**
+     * Create an engine that plays on the game board of 'newGameData'.
+     * @param newGameData The game data whose game board the engine plays on.
+     */
+    public GameEngine(GameData newGameData)
+    {
+        this(newGameData, new UniformPieceGenerator(Constants.PIECE_QUEUE_SIZE));
+    }
+
+    /**
+     * Create an engine that plays on the game board of 'newGameData' and takes its pieces from 'newPieceGenerator'.
+     * @param newGameData The game data whose game board the engine plays on.
+     * @param newPieceGenerator Chooses the type of each new Tetromino.
+     */
+    public GameEngine(GameData newGameData, PieceGenerator newPieceGenerator)
+    {
+        gameData = newGameData;
+        pieceGenerator = newPieceGenerator;
+        seedGenerator = new SplittableRandom();
+        listener = (event, value) -> {};
+
+        // Center the widest bounding box, and sweep the row clear animation out from the center one column per step
+        // on each side, so that both scale with the width of the game board.
+        spawnCol = (gameData.getCols() - Constants.NEXT_DISPLAY_SIZE) / 2;
+        centerCol = gameData.getCols() / 2;
+        animationFrameCount = Constants.ANIMATION_FRAME_COUNT * ((gameData.getCols() + 1) / 2);
+        lockDelayResetLimit = Constants.LOCK_DELAY_RESET_LIMIT;
+        softDropFactor = Constants.SOFT_DROP_FACTOR;
+        animatedTileIndexes = new int[] {centerCol - 1, centerCol};
+        rowsToClear = new int[Tetromino.NUM_OF_TILES];
+        state = STATE_GAME_OVER;
+    }
+
+    /**
+     * Set the listener that receives the events emitted by the engine.
+     * @param newListener The new listener.
+     */
+    public void setEventListener(GameEventListener newListener)
+    {
+        listener = newListener;
+    }
+
+    /**
+     * Start a new game with a random seed.
+     */
+    public void startNewGame()
+    {
+        startNewGame(seedGenerator.nextLong());
+    }
+
+    /**
+     * Reset the game board, score, lines and level, spawn the first Tetrominos, and start a new game.
+     * @param newSeed The seed of the game's random stream - the same seed and inputs always give the same game.
+     */
+    public void startNewGame(long newSeed)
+    {
+        seed = newSeed;
+        gameRandom = new SplittableRandom(seed);
+        pieceGenerator.reset(gameRandom);
+        updateGravity();
+        score = 0;
+        lines = 0;
+        level = 0;
+        linesNeededToLevel = 10;
+        linesClearedAtOnce = 0;
+        numOfTetrises = 0;
+        frameCounter = 0;
+        lockDelayFrameCounter = 0;
+        lockDelayResets = 0;
+        lowestLandedRow = -1;
+        gravityFrameCounter = 0;
+        softDropProgress = 0;
+        isSoftDropping = false;
+        wasHardDropped = false;
+        hasAwardedTetrisMaster = false;
+        animatedTileIndexes[0] = centerCol - 1;
+        animatedTileIndexes[1] = centerCol;
+        numOfRowsToClear = 0;
+
+        gameData.resetBoardTiles();
+
+        // Tetrominos are reused between games, so only create them for the first game.
+        if (currentTetromino == null)
+        {
+            currentTetromino = new Tetromino(pieceGenerator.next());
+            nextTetromino    = new Tetromino(pieceGenerator.next());
+        }
+        else
+        {
+            currentTetromino.setTetrominoType(pieceGenerator.next());
+            nextTetromino.setTetrominoType(pieceGenerator.next());
+        }
+
+        currentTetromino.resetRowsHardAndSoftDropped();
+        currentTetromino.resetTetromino(Constants.CURRENT_TETROMINO_STARTING_ROW, spawnCol);
+        nextTetromino.resetTetromino(Constants.NEXT_TETROMINO_STARTING_ROW, Constants.NEXT_TETROMINO_STARTING_COL);
+
+        state = STATE_FALLING;
+        listener.onGameEvent(GameEvent.PIECE_SPAWNED, 0);
+    }
+
+    /**
+     * Apply the inputs for this frame and then advance the game by one frame.
+     * @param inputs The INPUT_ flags that are active this frame.
+     */
+    public void step(int inputs)
+    {
+        setSoftDropping((inputs & INPUT_SOFT_DROP) != 0);
+
+        if ((inputs & INPUT_MOVE_LEFT) != 0)
+            moveTetromino(Direction.LEFT);
+        if ((inputs & INPUT_MOVE_RIGHT) != 0)
+            moveTetromino(Direction.RIGHT);
+        if ((inputs & INPUT_ROTATE_LEFT) != 0)
+            rotateTetromino(Direction.LEFT);
+        if ((inputs & INPUT_ROTATE_RIGHT) != 0)
+            rotateTetromino(Direction.RIGHT);
+        if ((inputs & INPUT_HARD_DROP) != 0)
+            hardDropTetromino();
+
+        tick();
+    }
+
+    /**
+     * Advance the game by one frame.
+     */
+    public void tick()
+    {
+        if (state == STATE_GAME_OVER)
+            return;
+
+        // Check if the Tetromino has landed, and if so, either start lock delay or place it right away if it was hard
+        // dropped. Landing on a new lowest row gives the Tetromino a fresh set of resets. Landing again on a row it has
+        // already reached after using them all up places it right away, so it can't be kept from locking by lifting it
+        // off the stack and letting it land again.
+        if (state == STATE_FALLING && isTetrominoPlaced())
+        {
+            EventLog.log(LogEvent.TETROMINO_LANDED, 0);
+            isSoftDropping = false;
+            int bottomRow = getBottomRow();
+            boolean isNewLowestRow = bottomRow > lowestLandedRow;
+
+            if (isNewLowestRow)
+            {
+                lowestLandedRow = bottomRow;
+                lockDelayResets = 0;
+            }
+
+            if (wasHardDropped)
+            {
+                EventLog.log(LogEvent.HARD_DROP_LANDED, 0);
+                lockTetromino();
+            }
+            else
+            {
+                listener.onGameEvent(GameEvent.PIECE_LANDED, 0);
+
+                if (!isNewLowestRow && lockDelayResets >= lockDelayResetLimit)
+                    lockTetromino();
+                else
+                {
+                    EventLog.log(LogEvent.LOCK_DELAY_STARTED, 0);
+                    lockDelayFrameCounter = 0;
+                    state = STATE_LOCK_DELAY;
+                }
+            }
+        }
+
+        // Lock delay only counts while the Tetromino is resting on something. If it was moved or rotated off of a ledge,
+        // it falls again, and lock delay starts over when it lands if it has resets left.
+        if (state == STATE_LOCK_DELAY)
+        {
+            if (currentTetromino.getDropDistance(gameData) > 0)
+            {
+                currentTetromino.setIsPlaced(false);
+                gravityFrameCounter = 0;
+                state = STATE_FALLING;
+            }
+            else
+            {
+                lockDelayFrameCounter++;
+                EventLog.log(LogEvent.IN_LOCK_DELAY, lockDelayFrameCounter);
+
+                if (lockDelayFrameCounter >= Constants.DELAY_FRAME_COUNT)
+                    lockTetromino();
+            }
+        }
+
+        if (state == STATE_CLEAR_ANIMATION)
+            animateClearedRows();
+
+        // Drop the current Tetromino at the speed of gravity, or 'softDropFactor' times faster if it is being soft
+        // dropped. Soft drop speed is kept as a fraction of a row per frame, so it can land between whole frame counts.
+        if (state == STATE_FALLING)
+        {
+            if (isSoftDropping)
+            {
+                gravityFrameCounter = 0;
+                softDropProgress += softDropFactor * gravityRowCount;
+                int rowsDue = softDropProgress / gravityFrameCount;
+                softDropProgress %= gravityFrameCount;
+
+                if (rowsDue > 0)
+                    currentTetromino.incrementRowsSoftDropped(currentTetromino.fall(gameData, rowsDue));
+            }
+            else if (++gravityFrameCounter >= gravityFrameCount)
+            {
+                gravityFrameCounter = 0;
+                currentTetromino.fall(gameData, gravityRowCount);
+            }
+        }
+
+        wasHardDropped = false;
+    }
+
+    /**
+     * Move the current Tetromino by 1 tile space in the given direction.
+     * @param dir The direction of input.
+     */
+    public void moveTetromino(Direction dir)
+    {
+        if ((state == STATE_FALLING || state == STATE_LOCK_DELAY) && !wasHardDropped)
+        {
+            currentTetromino.move(dir, gameData);
+
+            if (currentTetromino.getMovedOutOfBounds())
+                listener.onGameEvent(GameEvent.MOVE_BLOCKED, 0);
+            else
+                resetLockDelay();
+        }
+    }
+
+    /**
+     * Move the current Tetromino up to 'moves' tile spaces in the given direction, stopping at the first wall or placed
+       Tile without a MOVE_BLOCKED event. Used for auto-repeated moves, which run into walls all the time.
+     * @param dir The direction of input.
+     * @param moves The most tile spaces to move.
+     */
+    public void shiftTetromino(Direction dir, int moves)
+    {
+        if ((state == STATE_FALLING || state == STATE_LOCK_DELAY) && !wasHardDropped)
+        {
+            int movesDone = 0;
+
+            while (movesDone < moves)
+            {
+                currentTetromino.move(dir, gameData);
+
+                if (currentTetromino.getMovedOutOfBounds())
+                    break;
+
+                movesDone++;
+            }
+
+            if (movesDone > 0)
+                resetLockDelay();
+        }
+    }
+
+    /**
+     * Rotate the current Tetromino in the given direction.
+     * @param dir The direction of input.
+     */
+    public void rotateTetromino(Direction dir)
+    {
+        if ((state == STATE_FALLING || state == STATE_LOCK_DELAY) && !wasHardDropped)
+        {
+            if (currentTetromino.rotate(dir, gameData))
+                resetLockDelay();
+
+            listener.onGameEvent(GameEvent.ROTATED, 0);
+        }
+    }
+
+    /**
+     * Count a move or rotation of the current Tetromino against its resets once it has landed, and restart lock delay if
+       it is in lock delay. Once its resets are used up, lock delay keeps counting, and the Tetromino is placed as soon as
+       it lands again, until it lands on a new lowest row.
+     */
+    private void resetLockDelay()
+    {
+        if (lowestLandedRow >= 0 && lockDelayResets < lockDelayResetLimit)
+        {
+            lockDelayResets++;
+
+            if (state == STATE_LOCK_DELAY)
+                lockDelayFrameCounter = 0;
+        }
+    }
+
+    /**
+     * @return The lowest game board row that the current Tetromino covers.
+     */
+    private int getBottomRow()
+    {
+        int bottomRow = 0;
+
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+            bottomRow = Math.max(bottomRow, currentTetromino.getTileRow(tile));
+
+        return bottomRow;
+    }
+
+    /**
+     * Set how many times each Tetromino can restart lock delay by moving or rotating. 0 turns resets off.
+     * @param newLimit The new limit.
+     */
+    public void setLockDelayResetLimit(int newLimit)
+    {
+        lockDelayResetLimit = newLimit;
+    }
+
+    /**
+     * @return The number of times each Tetromino can restart lock delay.
+     */
+    public int getLockDelayResetLimit()
+    {
+        return lockDelayResetLimit;
+    }
+
+    /**
+     * Instantly drop the current Tetromino to its placement position.
+     */
+    public void hardDropTetromino()
+    {
+        if (state == STATE_FALLING || state == STATE_LOCK_DELAY)
+        {
+            currentTetromino.hardDrop(gameData);
+            wasHardDropped = true;
+        }
+    }
+
+    /**
+     * Apply one queued input to the current Tetromino.
+     * @param action The input.
+     */
+    public void applyInput(InputAction action)
+    {
+        switch (action)
+        {
+            case MOVE_LEFT -> moveTetromino(Direction.LEFT);
+            case MOVE_RIGHT -> moveTetromino(Direction.RIGHT);
+            case ROTATE_LEFT -> rotateTetromino(Direction.LEFT);
+            case ROTATE_RIGHT -> rotateTetromino(Direction.RIGHT);
+            case HARD_DROP -> hardDropTetromino();
+            case SOFT_DROP_START -> setSoftDropping(true);
+            case SOFT_DROP_END -> setSoftDropping(false);
+            case MOVE_LEFT_END, MOVE_RIGHT_END -> {}       // Auto-repeat is tracked by the caller.
+        }
+    }
+
+    /**
+     * Set whether the current Tetromino is being soft dropped.
+     * @param status Boolean indicating whether soft drop is held or not.
+     */
+    public void setSoftDropping(boolean status)
+    {
+        if (status && !isSoftDropping)
+            softDropProgress = 0;
+
+        isSoftDropping = status;
+    }
+
+    /**
+     * Set how many times faster than gravity the current Tetromino falls while it is soft dropped.
+     * @param newFactor The new factor, from 1 up.
+     */
+    public void setSoftDropFactor(int newFactor)
+    {
+        if (newFactor < 1)
+            throw new IllegalArgumentException("Soft drop factor must be at least 1: " + newFactor);
+
+        softDropFactor = newFactor;
+    }
+
+    /**
+     * @return How many times faster than gravity the current Tetromino falls while it is soft dropped.
+     */
+    public int getSoftDropFactor()
+    {
+        return softDropFactor;
+    }
+
+    /**
+     * End the current game without any game over checks - used when the player quits.
+     */
+    public void endGame()
+    {
+        state = STATE_GAME_OVER;
+
+        if (currentTetromino != null)
+            currentTetromino.setIsPlaced(false);
+    }
+
+    /**
+     * Write the current Tetromino's Tiles to the game board, and check for full rows. The Tetromino is always resting on
+       something by now - it only locks after landing, after lock delay checks that it is still landed, or after a hard drop.
+     */
+    private void lockTetromino()
+    {
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+            gameData.placeTile(currentTetromino.getTileRow(tile), currentTetromino.getTileCol(tile), currentTetromino.getTetrominoType());
+
+        EventLog.log(LogEvent.CHECKING_ROWS, 0);
+
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+        {
+            int row = currentTetromino.getTileRow(tile);
+
+            if (gameData.isRowFull(row) && !isRowToClear(row))
+            {
+                rowsToClear[numOfRowsToClear] = row;
+                numOfRowsToClear++;
+                linesClearedAtOnce++;
+            }
+        }
+
+        // Animate rows as needed.
+        if (numOfRowsToClear > 0)
+        {
+            state = STATE_CLEAR_ANIMATION;
+            listener.onGameEvent(GameEvent.LINES_CLEARING, linesClearedAtOnce);
+
+            if (linesClearedAtOnce == Constants.LINES_REQ_FOR_TETRIS)
+            {
+                if (numOfTetrises < Constants.NUM_OF_CHARS_IN_TETRIS)
+                {
+                    numOfTetrises++;
+                    listener.onGameEvent(GameEvent.TETRIS_CHAR_EARNED, numOfTetrises);
+                }
+
+                listener.onGameEvent(GameEvent.TETRIS, numOfTetrises);
+            }
+        }
+        else
+            finishTetromino();
+    }
+
+    /**
+     * Animate the filled game board rows to be cleared, and once the animation is over, drop the cleared rows.
+     */
+    private void animateClearedRows()
+    {
+        EventLog.log(LogEvent.IN_CLEAR_ANIMATION, frameCounter);
+
+        if (frameCounter % Constants.ANIMATION_FRAME_COUNT == 0)
+        {
+            // Once each cycle's sprite has been selected, set it as the new tiletype of every tile in
+            // the rows to be cleared.
+            for (int rowIndex = 0; rowIndex < numOfRowsToClear; rowIndex++)
+            {
+                int rowNumber = rowsToClear[rowIndex];
+
+                // On game boards with an odd number of columns, the left side finishes one step early.
+                if (animatedTileIndexes[0] >= 0)
+                    gameData.setBoardTileType(rowNumber, animatedTileIndexes[0], TileType.WHITE);
+
+                gameData.setBoardTileType(rowNumber, animatedTileIndexes[1], TileType.WHITE);
+
+                if (animatedTileIndexes[0] < centerCol - 1 && animatedTileIndexes[1] > centerCol)
+                {
+                    gameData.setBoardTileType(rowNumber, animatedTileIndexes[0] + 1, TileType.EMPTY);
+                    gameData.setBoardTileType(rowNumber, animatedTileIndexes[1] - 1, TileType.EMPTY);
+                }
+            }
+
+            animatedTileIndexes[0]--;
+            animatedTileIndexes[1]++;
+        }
+
+        frameCounter++;
+
+        // Once the sweep has reached both edges (0.25 seconds on the default game board), stop the animation and resume the game.
+        if (frameCounter == animationFrameCount)
+        {
+            dropClearedRows();
+
+            frameCounter = 0;
+            animatedTileIndexes[0] = centerCol - 1;
+            animatedTileIndexes[1] = centerCol;
+            finishTetromino();
+        }
+    }
+
+    /**
+     * Spawn the next Tetromino, and if the game is not over, update lines, score and level for the placed Tetromino.
+     */
+    private void finishTetromino()
+    {
+        EventLog.log(LogEvent.CHECKING_GAME_OVER, 0);
+
+        if (spawnNextTetromino())
+        {
+            EventLog.log(LogEvent.GAME_STILL_ACTIVE, 0);
+            state = STATE_FALLING;
+
+            // Un-place current Tetromino.
+            currentTetromino.setIsPlaced(false);
+
+            // Increment lines as needed
+            if (linesClearedAtOnce > 0)
+            {
+                incrementLines(linesClearedAtOnce);
+                linesNeededToLevel -= linesClearedAtOnce;
+            }
+
+            // Increment score
+            incrementScore();
+            currentTetromino.resetRowsHardAndSoftDropped();
+
+            // Increment level as needed
+            if (linesNeededToLevel <= 0)
+                incrementLevel();
+
+            listener.onGameEvent(GameEvent.PIECE_SPAWNED, 0);
+        }
+    }
+
+    /**
+     * Make the next Tetromino the current one, generate a new next Tetromino, and run tests to check if game over state
+       has been reached.
+     * @return Whether the game is still active.
+     */
+    private boolean spawnNextTetromino()
+    {
+        boolean needToDrawLastTetromino = false;        // Flag that indicates whether the Tetromino that ends the game
+                                                        // has room to be drawn to the game board or not.
+        boolean gameOverTestResult = false;             // Flag indicating game over test result.
+        int row, col;
+
+        // Get the next type for current tetromino and generate new type for next.
+        currentTetromino.setTetrominoType(nextTetromino.getTetrominoType());
+        nextTetromino.setTetrominoType(pieceGenerator.next());
+
+        // Reset Tetromino positions.
+        currentTetromino.resetTetromino(Constants.CURRENT_TETROMINO_STARTING_ROW, spawnCol);
+        nextTetromino.resetTetromino(Constants.NEXT_TETROMINO_STARTING_ROW, Constants.NEXT_TETROMINO_STARTING_COL);
+        gravityFrameCounter = 0;
+        lockDelayResets = 0;
+        lowestLandedRow = -1;
+
+        // Test 1
+        // If this test is failed, then the most recently placed Tetromino ended the game because the next one will not
+        // fit on the game board.
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+        {
+            row = currentTetromino.getTileRow(tile);
+            col = currentTetromino.getTileCol(tile);
+
+            if (row <= 1 && gameData.isOccupied(row, col))
+            {
+                gameOverTestResult = true;
+                break;
+            }
+        }
+
+        // Test 2
+        // If test 1 was passed, but this test fails, then the new current Tetromino fits on the game board, but it
+        // triggers game over.
+        if (!gameOverTestResult)
+        {
+            for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+            {
+                row = currentTetromino.getTileRow(tile);
+                col = currentTetromino.getTileCol(tile);
+
+                if (row <= 1 && gameData.isOccupied(row + 1, col))
+                {
+                    needToDrawLastTetromino = true;
+                    gameOverTestResult = true;
+                    break;
+                }
+            }
+        }
+
+        if (gameOverTestResult)
+        {
+            // If the new Tetromino is what triggers the end game, then draw it on the game board.
+            if (needToDrawLastTetromino)
+            {
+                for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+                    gameData.setBoardTileType(currentTetromino.getTileRow(tile), currentTetromino.getTileCol(tile), currentTetromino.getTetrominoType());
+
+                listener.onGameEvent(GameEvent.PIECE_SPAWNED, 0);
+            }
+
+            endGame();
+            listener.onGameEvent(GameEvent.GAME_OVER, needToDrawLastTetromino ? 1 : 0);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * After row clear animation, remove the cleared rows and drop the rows above them down.
+     */
+    private void dropClearedRows()
+    {
+        // The cleared rows are still full in the bitboard, so the game data can find and compact them in one pass.
+        gameData.clearFullRows();
+
+        // Once all rows have been cleared, reset the list of rows that need to be cleared.
+        numOfRowsToClear = 0;
+    }
+
+    /**
+     * @param row The row to check.
+     * @return Whether 'row' is already stored in 'rowsToClear'.
+     */
+    private boolean isRowToClear(int row)
+    {
+        for (int rowIndex = 0; rowIndex < numOfRowsToClear; rowIndex++)
+        {
+            if (rowsToClear[rowIndex] == row)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Increment the number of cleared lines in the current game.
+     * @param rowsCleared The number of rows that were just cleared.
+     */
+    private void incrementLines(int rowsCleared)
+    {
+        lines += rowsCleared;
+        listener.onGameEvent(GameEvent.LINES_CHANGED, lines);
+    }
+
+    /**
+     * Increment the current score based on level, number of lines cleared, and number of rows soft and hard dropped.
+     * If player has activated all 6 TETRIS chars, then activate 'TETRIS MASTER' score boost.
+     */
+    private void incrementScore()
+    {
+        if (level == 0)
+        {
+            switch (linesClearedAtOnce)
+            {
+                case 1 -> score += 40;
+                case 2 -> score += 100;
+                case 3 -> score += 300;
+                case 4 -> score += 1200;
+            }
+        }
+        else if (level > 0 && level < 10)
+        {
+            switch (linesClearedAtOnce)
+            {
+                case 1 -> score += 40 * level;
+                case 2 -> score += 100 * level;
+                case 3 -> score += 300 * level;
+                case 4 -> score += 1200 * level;
+            }
+        } else
+        {
+            switch (linesClearedAtOnce)
+            {
+                case 1 -> score += 40 * 10;
+                case 2 -> score += 100 * 10;
+                case 3 -> score += 300 * 10;
+                case 4 -> score += 1200 * 10;
+            }
+        }
+
+        if (numOfTetrises == Constants.NUM_OF_CHARS_IN_TETRIS && !hasAwardedTetrisMaster)
+        {
+            score += 50000;
+            hasAwardedTetrisMaster = true;
+            listener.onGameEvent(GameEvent.TETRIS_MASTER, 0);
+        }
+
+        score += currentTetromino.getRowsSoftDropped() + currentTetromino.getRowsHardDropped() * 2;
+        linesClearedAtOnce = 0;
+        listener.onGameEvent(GameEvent.SCORE_CHANGED, score);
+    }
+
+    /**
+     * Increment the current level based on number of lines cleared and update speed of gravity based on level.
+     */
+    private void incrementLevel()
+    {
+        level++;
+
+        switch (level)
+        {
+            case 1, 2, 3, 4, 5 -> linesNeededToLevel = 10;
+            case 6, 7, 8, 9 -> linesNeededToLevel = 15;
+            case 10, 11, 12, 13 -> linesNeededToLevel = 20;
+            case 14, 15, 16, 17 -> linesNeededToLevel = 25;
+            default -> linesNeededToLevel = 30;
+        }
+
+        linesNeededToLevel -= lines % linesNeededToLevel;
+
+        updateGravity();
+
+        listener.onGameEvent(GameEvent.LEVEL_CHANGED, level);
+    }
+
+    /**
+     * @return Whether the current Tetromino has landed.
+     */
+    private boolean isTetrominoPlaced()
+    {
+        return currentTetromino.getIsPlaced();
+    }
+
+    /**
+     * @param piecesAhead How far past the next Tetromino to look - 0 is the piece that follows it.
+     * @return The TileType of the upcoming piece.
+     */
+    public TileType peekPiece(int piecesAhead)
+    {
+        return pieceGenerator.peek(piecesAhead);
+    }
+
+    /**
+     * @return The seed of the current game's random stream.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * Anything random in a game, such as the pieces or the holes in garbage rows, must draw from this stream only, so
+       that each game is reproducible from its seed and independent of any other game running at the same time.
+     * @return The current game's random stream.
+     */
+    public SplittableRandom getGameRandom()
+    {
+        return gameRandom;
+    }
+
+    /**
+     * @return A 64-bit Zobrist hash of the game board, the current Tetromino's type and rotation, and the next
+               Tetromino's type. Before the first game starts there are no Tetrominos, so it is just the game board's hash.
+     */
+    public long getStateHash()
+    {
+        if (currentTetromino == null)
+            return gameData.getBoardHash();
+
+        return gameData.getBoardHash() ^ Zobrist.getPieceHash(currentTetromino, nextTetromino);
+    }
+
+    /**
+     * @return The game data whose game board the engine plays on.
+     */
+    public GameData getGameData()
+    {
+        return gameData;
+    }
+
+    /**
+     * @return The current Tetromino.
+     */
+    public Tetromino getCurrentTetromino()
+    {
+        return currentTetromino;
+    }
+
+    /**
+     * @return The next Tetromino.
+     */
+    public Tetromino getNextTetromino()
+    {
+        return nextTetromino;
+    }
+
+    /**
+     * @return Score.
+     */
+    public int getScore()
+    {
+        return score;
+    }
+
+    /**
+     * @return Number of cleared lines.
+     */
+    public int getLines()
+    {
+        return lines;
+    }
+
+    /**
+     * @return Level.
+     */
+    public int getLevel()
+    {
+        return level;
+    }
+
+    /**
+     * Set gravity to 20G - the whole game board in one frame - in master mode, to the gravity given to setGravity() if
+       there is one, or else from the current level.
+     */
+    private void updateGravity()
+    {
+        if (isMasterMode)
+        {
+            gravityFrameCount = 1;
+            gravityRowCount = gameData.getRows();
+        }
+        else if (customGravityFrameCount > 0)
+        {
+            gravityFrameCount = customGravityFrameCount;
+            gravityRowCount = customGravityRowCount;
+        }
+        else
+        {
+            gravityFrameCount = getGravityFrameCount(level);
+            gravityRowCount = 1;
+        }
+    }
+
+    /**
+     * Set gravity to 'rows' rows every 'frames' frames, in place of the level's gravity, for this and later games.
+       Master mode still overrides it.
+     * @param frames The frames between drops, from 1 up.
+     * @param rows The rows fallen on each drop, from 1 up - the game board's rows or more is 20G.
+     */
+    public void setGravity(int frames, int rows)
+    {
+        if (frames < 1 || rows < 1)
+            throw new IllegalArgumentException("Gravity must be at least 1 row every 1 frame: " + rows + " rows every " + frames + " frames");
+
+        customGravityFrameCount = frames;
+        customGravityRowCount = rows;
+        updateGravity();
+    }
+
+    /**
+     * Go back to the gravity of the current level, after setGravity().
+     */
+    public void useLevelGravity()
+    {
+        customGravityFrameCount = 0;
+        updateGravity();
+    }
+
+    /**
+     * Turn master mode on or off. In master mode, the current Tetromino drops straight to its placement location on the
+       first frame after it spawns, no matter the level.
+     * @param status Whether master mode is on.
+     */
+    public void setMasterMode(boolean status)
+    {
+        isMasterMode = status;
+        updateGravity();
+    }
+
+    /**
+     * @return Whether master mode is on.
+     */
+    public boolean getMasterMode()
+    {
+        return isMasterMode;
+    }
+
+    /**
+     * @return The number of rows the current Tetromino falls on each drop.
+     */
+    public int getGravityRowCount()
+    {
+        return gravityRowCount;
+    }
+
+    /**
+     * @param level A level, from 0 up.
+     * @return The number of frames between drops at that level. Every level past the end of the table uses its last entry.
+     */
+    public static int getGravityFrameCount(int level)
+    {
+        return Constants.GRAVITY_FRAME_COUNTS[Math.min(level, Constants.GRAVITY_FRAME_COUNTS.length - 1)];
+    }
+
+    /**
+     * @return The number of frames between drops of the current Tetromino at the current level.
+     */
+    public int getGravityFrameCount()
+    {
+        return gravityFrameCount;
+    }
+
+    /**
+     * @return Lock delay active status.
+     */
+    public boolean isDelayActive()
+    {
+        return state == STATE_LOCK_DELAY;
+    }
+
+    /**
+     * @return Row clear animation active status.
+     */
+    public boolean isAnimationActive()
+    {
+        return state == STATE_CLEAR_ANIMATION;
+    }
+
+    /**
+     * @return Game over status.
+     */
+    public boolean isGameOver()
+    {
+        return state == STATE_GAME_OVER;
+    }
+}
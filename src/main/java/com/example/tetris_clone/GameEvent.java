@@ -0,0 +1,21 @@
+package com.example.tetris_clone;
+
+/**
+ * This class contains enum types for the events that the GameEngine emits to its GameEventListener.
+ */
+
+public enum GameEvent
+{
+    PIECE_SPAWNED,          // A new current Tetromino has spawned and the next Tetromino has changed.
+    PIECE_LANDED,           // The current Tetromino landed without a hard drop and lock delay started.
+    MOVE_BLOCKED,           // A move was blocked by the game board borders or a placed Tile.
+    ROTATED,                // The current Tetromino was rotated.
+    LINES_CLEARING,         // Full rows were found and the row clear animation started. Value: number of rows.
+    TETRIS,                 // Four rows were cleared at once. Value: number of TETRIS chars earned.
+    TETRIS_CHAR_EARNED,     // A new TETRIS char was earned. Value: number of TETRIS chars earned.
+    LINES_CHANGED,          // Value: the new number of cleared lines.
+    SCORE_CHANGED,          // Value: the new score.
+    TETRIS_MASTER,          // All 6 TETRIS chars were earned and the score bonus was awarded.
+    LEVEL_CHANGED,          // Value: the new level.
+    GAME_OVER               // Value: 1 if the Tetromino that triggered game over was drawn to the game board, otherwise 0.
+}
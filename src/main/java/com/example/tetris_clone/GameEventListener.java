@@ -0,0 +1,15 @@
+package com.example.tetris_clone;
+
+/**
+ * This interface is implemented by anything that reacts to GameEngine events, such as playing sounds or rendering graphics.
+ */
+
+public interface GameEventListener
+{
+    /**
+     * Called by the GameEngine whenever a GameEvent occurs.
+     * @param event The event that occurred.
+     * @param value A value describing the event - see GameEvent for what each event passes.
+     */
+    void onGameEvent(GameEvent event, int value);
+}
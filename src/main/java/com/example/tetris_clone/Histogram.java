@@ -0,0 +1,128 @@
+package com.example.tetris_clone;
+
+import java.util.Arrays;
+
+/**
+ * This class counts durations in nanoseconds into a fixed set of buckets, so recording never allocates.
+ * Buckets are log-linear - each power of 2 is split into SUB_BUCKETS equal buckets - so every recorded value is known
+   to within about 1/SUB_BUCKETS of itself, from 1 nanosecond up to over 18 minutes. Larger values go in the last bucket.
+ * Not thread safe - each histogram should only be recorded to from one thread.
+ */
+
+public class Histogram
+{
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;       // Buckets per power of 2.
+    private static final int MAX_VALUE_BITS = 40;                       // Values up to 2^40 ns have their own bucket.
+    private static final int NUM_OF_BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;                  // The name of the measured value, used in CSV output.
+    private final long[] counts;                // The number of values recorded in each bucket.
+    private long totalCount;                    // The number of values recorded.
+    private long maxValue;                      // The largest value recorded.
+
+    /**
+     * @param newName The name of the measured value, used in CSV output.
+     */
+    public Histogram(String newName)
+    {
+        name = newName;
+        counts = new long[NUM_OF_BUCKETS];
+    }
+
+    /**
+     * Record one value. Negative values are recorded as 0.
+     * @param nanos The value, in nanoseconds.
+     */
+    public void record(long nanos)
+    {
+        long value = Math.max(0, nanos);
+
+        counts[getBucket(value)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Values below SUB_BUCKETS get one bucket each. Above that, the highest set bit picks the power of 2 and the next
+       SUB_BUCKET_BITS bits pick the bucket within it.
+     * @param value A value of at least 0.
+     * @return The index of the bucket that holds the value.
+     */
+    private static int getBucket(long value)
+    {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int bucket = (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+
+        return Math.min(bucket, NUM_OF_BUCKETS - 1);
+    }
+
+    /**
+     * @param bucket The index of a bucket.
+     * @return The largest value that goes in the bucket.
+     */
+    private static long getBucketUpperValue(int bucket)
+    {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerValue = ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS)) << shift;
+
+        return lowerValue + (1L << shift) - 1;
+    }
+
+    /**
+     * @param percentile The percentile to find, from 0 to 100.
+     * @return The upper value of the bucket that the percentile falls in, never more than the largest recorded value,
+               or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile)
+    {
+        if (totalCount == 0)
+            return 0;
+
+        long targetCount = Math.max(1, (long) Math.ceil(totalCount * percentile / 100));
+        long count = 0;
+
+        for (int bucket = 0; bucket < NUM_OF_BUCKETS; bucket++)
+        {
+            count += counts[bucket];
+
+            // The last bucket holds every value that is too large for its own bucket.
+            if (count >= targetCount)
+                return bucket == NUM_OF_BUCKETS - 1 ? maxValue : Math.min(getBucketUpperValue(bucket), maxValue);
+        }
+
+        return maxValue;
+    }
+
+    /**
+     * Forget every recorded value.
+     */
+    public void reset()
+    {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxValue = 0;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public long getTotalCount()
+    {
+        return totalCount;
+    }
+
+    public long getMaxValue()
+    {
+        return maxValue;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.tetris_clone;
+
+/**
+ * This class chooses Tetromino types the way the NES version does - roll 1 of 8, and if the roll is the extra 8th value
+   or repeats the previous type, roll once more among the 7 types and keep that result.
+ * Repeats are much rarer than with a uniform choice, but droughts are not bounded.
+ */
+
+public class HistoryPieceGenerator extends QueuedPieceGenerator
+{
+    private int lastTypeIndex;                          // The index of the previously generated type, or -1 for none.
+
+    /**
+     * @param queueSize How many pieces ahead peek() can look.
+     */
+    public HistoryPieceGenerator(int queueSize)
+    {
+        super(queueSize);
+    }
+
+    @Override
+    protected void restart()
+    {
+        lastTypeIndex = -1;
+    }
+
+    @Override
+    protected TileType generate()
+    {
+        int typeIndex = random.nextInt(Constants.NUM_OF_TETROMINOS + 1);
+
+        if (typeIndex == Constants.NUM_OF_TETROMINOS || typeIndex == lastTypeIndex)
+            typeIndex = random.nextInt(Constants.NUM_OF_TETROMINOS);
+
+        lastTypeIndex = typeIndex;
+
+        return Tetromino.getTypeAt(typeIndex);
+    }
+}
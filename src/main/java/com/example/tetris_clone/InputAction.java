@@ -0,0 +1,27 @@
+package com.example.tetris_clone;
+
+/**
+ * This class contains enum types for the gameplay inputs that are queued by the TetrisController and applied by the
+   GameEngine at the start of a tick.
+ */
+
+public enum InputAction
+{
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    MOVE_LEFT_END,          // The left key was released.
+    MOVE_RIGHT_END,         // The right key was released.
+    ROTATE_LEFT,
+    ROTATE_RIGHT,
+    HARD_DROP,
+    SOFT_DROP_START,        // The soft drop key was pressed.
+    SOFT_DROP_END;          // The soft drop key was released.
+
+    /**
+     * @return Whether the input is a key being released rather than pressed.
+     */
+    public boolean isRelease()
+    {
+        return this == MOVE_LEFT_END || this == MOVE_RIGHT_END || this == SOFT_DROP_END;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.tetris_clone;
+
+/**
+ * This class is a preallocated, lock-free queue of timestamped InputActions between exactly one producer thread (the
+   JavaFX key handlers) and exactly one consumer thread (whichever thread runs game ticks).
+ * The producer only writes 'tail' and the consumer only writes 'head'. Each side publishes its slot writes by writing
+   its own index last, and that index is volatile, so the other side always sees a complete entry.
+ * If the queue is full, new inputs are rejected rather than overwriting ones that have not been applied yet.
+ */
+
+public class InputQueue
+{
+    private final InputAction[] actions;        // The queued actions, one per slot.
+    private final long[] times;                 // The System.nanoTime() timestamp of each queued action.
+    private final int mask;                     // actions.length - 1, used to wrap indexes around the ring buffer.
+    private volatile long head;                 // Index of the next entry to poll - written by the consumer only.
+    private volatile long tail;                 // Index of the next entry to offer - written by the producer only.
+    private long polledTime;                    // The timestamp of the most recently polled entry - consumer side only.
+
+    /**
+     * @param capacity The most inputs that can wait in the queue. Rounded up to a power of 2.
+     */
+    public InputQueue(int capacity)
+    {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+
+        int size = 1;
+
+        while (size < capacity)
+            size <<= 1;
+
+        actions = new InputAction[size];
+        times = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Add an input to the end of the queue. Producer thread only.
+     * @param action The input.
+     * @param nanos The System.nanoTime() timestamp of the input.
+     * @return Whether the input was queued - false if the queue was full.
+     */
+    public boolean offer(InputAction action, long nanos)
+    {
+        long currentTail = tail;
+
+        if (currentTail - head == actions.length)
+            return false;
+
+        int slot = (int) (currentTail & mask);
+        actions[slot] = action;
+        times[slot] = nanos;
+        tail = currentTail + 1;
+
+        return true;
+    }
+
+    /**
+     * Remove the input at the front of the queue. Consumer thread only.
+     * @return The input, or null if the queue is empty. Its timestamp is then available from getPolledTime().
+     */
+    public InputAction poll()
+    {
+        long currentHead = head;
+
+        if (currentHead == tail)
+            return null;
+
+        int slot = (int) (currentHead & mask);
+        InputAction action = actions[slot];
+        polledTime = times[slot];
+        head = currentHead + 1;
+
+        return action;
+    }
+
+    /**
+     * @return The timestamp of the input most recently returned by poll(). Consumer thread only.
+     */
+    public long getPolledTime()
+    {
+        return polledTime;
+    }
+}
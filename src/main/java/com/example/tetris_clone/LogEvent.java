@@ -0,0 +1,50 @@
+package com.example.tetris_clone;
+
+/**
+ * This class contains enum types for the events that can be written to the EventLog, each with its level and message.
+ * Events are logged as an enum and a number, so logging one never builds a String.
+ */
+
+public enum LogEvent
+{
+    // GameEngine state changes
+    TETROMINO_LANDED(LogLevel.TRACE, "Tetromino tiles are placed"),
+    LOCK_DELAY_STARTED(LogLevel.TRACE, "Tetromino was placed without hard drop"),
+    HARD_DROP_LANDED(LogLevel.TRACE, "Tetromino was hard dropped"),
+    IN_LOCK_DELAY(LogLevel.TRACE, "In lock delay, frame"),
+    CHECKING_ROWS(LogLevel.TRACE, "Checking for rows to clear"),
+    IN_CLEAR_ANIMATION(LogLevel.TRACE, "In row clear animation, frame"),
+    CHECKING_GAME_OVER(LogLevel.TRACE, "Checking for game over"),
+    GAME_STILL_ACTIVE(LogLevel.TRACE, "Game still active"),
+
+    // Database and high scores
+    DATABASE_FILE_CREATED(LogLevel.INFO, "Database file created"),
+    DATABASE_FILE_NOT_CREATED(LogLevel.INFO, "Database file could not be created"),
+    DATABASE_FILE_EXISTS(LogLevel.INFO, "Database file exists"),
+    DATABASE_TABLE_READY(LogLevel.INFO, "Table 'top_players' is ready, rows"),
+    DATABASE_ENTRY_SAVED(LogLevel.INFO, "Database entry saved, score"),
+    TOP_PLAYER_LOADED(LogLevel.INFO, "Top player loaded, score"),
+    TOP_PLAYER_RANKED(LogLevel.INFO, "Top player ranked, score"),
+
+    // Frame stats
+    FRAME_STATS_NOT_WRITTEN(LogLevel.INFO, "Frame stats could not be written to");
+
+    private final LogLevel level;               // The least detailed level that the event is logged at.
+    private final String message;               // Written before the event's text and value.
+
+    LogEvent(LogLevel newLevel, String newMessage)
+    {
+        level = newLevel;
+        message = newMessage;
+    }
+
+    public LogLevel getLevel()
+    {
+        return level;
+    }
+
+    public String getMessage()
+    {
+        return message;
+    }
+}
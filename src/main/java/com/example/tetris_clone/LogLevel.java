@@ -0,0 +1,12 @@
+package com.example.tetris_clone;
+
+/**
+ * This class contains enum types for the levels of the EventLog, from least to most detailed.
+ */
+
+public enum LogLevel
+{
+    OFF,        // Nothing is logged.
+    INFO,       // Occasional events, such as database changes and high scores.
+    TRACE       // Every GameEngine state change, up to several per frame.
+}
@@ -6,6 +6,7 @@ import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 
 /**
  * This class is where the application is launched.
@@ -16,7 +17,13 @@ public class Main extends Application
     @Override
     public void start(Stage stage)
     {
-        TetrisRenderer renderer = new TetrisRenderer();
+        EventLog.start(Path.of(Constants.EVENT_LOG_FILE));
+
+        TetrisRenderer renderer = switch (Constants.RENDER_MODE)
+        {
+            case CANVAS -> new TetrisRenderer();
+            case FRAMEBUFFER -> new FramebufferRenderer();
+        };
         Game newGame = new Game(renderer);
         TetrisController controller = new TetrisController(newGame);
         Scene scene = renderer.getScene();
@@ -25,5 +32,16 @@ public class Main extends Application
         stage.setResizable(false);
         stage.show();
     }
+
+    /**
+     * Write any frame stats and logged events that have not been written yet before the application exits.
+     */
+    @Override
+    public void stop()
+    {
+        FrameStats.finishWrites();
+        EventLog.stop();
+    }
+
     public static void main(String[] args){}
 }
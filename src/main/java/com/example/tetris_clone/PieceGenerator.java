@@ -0,0 +1,36 @@
+package com.example.tetris_clone;
+
+import java.util.SplittableRandom;
+
+/**
+ * This interface is implemented by the randomizers that choose the order of Tetromino types.
+ * A generator is reset once at the start of each game from that game's random stream, so the same game seed always
+   produces the same sequence of pieces, which makes games reproducible for replays, benchmarks and simulations.
+ */
+
+public interface PieceGenerator
+{
+    /**
+     * Restart the sequence of pieces. Called once at the start of each game.
+     * @param gameRandom The random stream of the new game - the only source of randomness the generator may use.
+     */
+    void reset(SplittableRandom gameRandom);
+
+    /**
+     * Remove the next piece from the queue and return it.
+     * @return The TileType of the next piece.
+     */
+    TileType next();
+
+    /**
+     * Look ahead in the queue without removing anything.
+     * @param piecesAhead How far ahead to look - 0 is the piece that next() will return.
+     * @return The TileType of the piece 'piecesAhead' pieces after the next one.
+     */
+    TileType peek(int piecesAhead);
+
+    /**
+     * @return How many pieces ahead peek() is able to look.
+     */
+    int getQueueSize();
+}
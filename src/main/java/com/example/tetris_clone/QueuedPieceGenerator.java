@@ -0,0 +1,83 @@
+package com.example.tetris_clone;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class holds the queue shared by every PieceGenerator - a ring buffer of upcoming piece types that is kept full,
+   so that peeking ahead never generates anything and taking a piece generates exactly one new one.
+ * Subclasses only decide which type comes next, drawing from 'random', which is split from the game's random stream
+   once per game in reset(). Splitting keeps the pieces the same no matter what else in the game draws from that stream.
+ */
+
+public abstract class QueuedPieceGenerator implements PieceGenerator
+{
+    private final TileType[] queue;                     // Upcoming piece types, oldest at 'head'.
+    private final int queueMask;                        // queue.length - 1, used to wrap indexes around the ring buffer.
+    private int head;                                   // Index of the piece that next() will return.
+    protected SplittableRandom random;                  // The generator's own stream, split from the current game's stream.
+
+    /**
+     * @param queueSize How many pieces ahead peek() can look. Rounded up to a power of 2.
+     */
+    protected QueuedPieceGenerator(int queueSize)
+    {
+        if (queueSize < 1)
+            throw new IllegalArgumentException("Queue size must be at least 1: " + queueSize);
+
+        int size = 1;
+
+        while (size < queueSize)
+            size <<= 1;
+
+        queue = new TileType[size];
+        queueMask = size - 1;
+    }
+
+    @Override
+    public void reset(SplittableRandom gameRandom)
+    {
+        random = gameRandom.split();
+        head = 0;
+        restart();
+
+        for (int index = 0; index < queue.length; index++)
+            queue[index] = generate();
+    }
+
+    @Override
+    public TileType next()
+    {
+        TileType type = queue[head];
+
+        // The slot just emptied is now the end of the queue.
+        queue[head] = generate();
+        head = (head + 1) & queueMask;
+
+        return type;
+    }
+
+    @Override
+    public TileType peek(int piecesAhead)
+    {
+        if (piecesAhead < 0 || piecesAhead >= queue.length)
+            throw new IllegalArgumentException("Can only peek 0 to " + (queue.length - 1) + " pieces ahead: " + piecesAhead);
+
+        return queue[(head + piecesAhead) & queueMask];
+    }
+
+    @Override
+    public int getQueueSize()
+    {
+        return queue.length;
+    }
+
+    /**
+     * Clear any state left over from the previous game, before the queue is refilled.
+     */
+    protected abstract void restart();
+
+    /**
+     * @return The type of the piece that follows every piece generated so far.
+     */
+    protected abstract TileType generate();
+}
@@ -0,0 +1,127 @@
+package com.example.tetris_clone;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * This class compares the render modes by drawing the same frames with each one in a window.
+ * Every frame changes some random game board Tiles and the score, and then redraws the whole game board, next display
+   and HUD, as after a line clear, before presenting it. The time spent drawing each frame and the time between frames
+   are recorded, and a summary of both is printed for each mode.
+ * Run with: java RenderBenchmark [frames] [changed Tiles per frame]
+ */
+
+public class RenderBenchmark
+{
+    private static final TileType[] BOARD_TYPES = {TileType.EMPTY, TileType.T_TET, TileType.J_TET, TileType.Z_TET, TileType.O_TET,
+                                                   TileType.S_TET, TileType.L_TET, TileType.I_TET, TileType.PREVIEW};
+
+    private final int numOfFrames;                      // The number of frames drawn in each mode.
+    private final int changedTilesPerFrame;             // The number of game board Tiles given a new TileType each frame.
+    private final RenderMode[] modes;                   // The modes left to run, in order.
+    private int modeIndex;                              // The index in 'modes' of the mode that is running.
+
+    /**
+     * @param newNumOfFrames The number of frames drawn in each mode.
+     * @param newChangedTilesPerFrame The number of game board Tiles given a new TileType each frame.
+     */
+    public RenderBenchmark(int newNumOfFrames, int newChangedTilesPerFrame)
+    {
+        numOfFrames = newNumOfFrames;
+        changedTilesPerFrame = newChangedTilesPerFrame;
+        modes = RenderMode.values();
+    }
+
+    /**
+     * Run the next mode in a new window, and exit once every mode has run. Called on the JavaFX application thread.
+     */
+    private void runNextMode()
+    {
+        if (modeIndex == modes.length)
+        {
+            Platform.exit();
+            return;
+        }
+
+        RenderMode mode = modes[modeIndex++];
+        TetrisRenderer renderer = switch (mode)
+        {
+            case CANVAS -> new TetrisRenderer();
+            case FRAMEBUFFER -> new FramebufferRenderer();
+        };
+
+        GameData gameData = new GameData();
+        gameData.mapInitialGameData(0);
+        renderer.renderAllGameGraphics(gameData);
+        renderer.present();
+
+        Stage stage = new Stage();
+        stage.setTitle("Render benchmark - " + mode);
+        stage.setScene(renderer.getScene());
+        stage.show();
+
+        Histogram drawTimes = new Histogram("draw");
+        Histogram frameTimes = new Histogram("frame");
+        SplittableRandom random = new SplittableRandom(modeIndex);
+
+        new AnimationTimer()
+        {
+            private int frame;                          // Frames drawn so far.
+            private long lastPulseTime;                 // The timestamp of the previous frame.
+
+            @Override
+            public void handle(long now)
+            {
+                if (lastPulseTime != 0)
+                    frameTimes.record(now - lastPulseTime);
+
+                lastPulseTime = now;
+
+                if (frame == numOfFrames)
+                {
+                    stop();
+                    stage.close();
+                    printSummary(mode, drawTimes, frameTimes);
+                    runNextMode();
+                    return;
+                }
+
+                for (int tile = 0; tile < changedTilesPerFrame; tile++)
+                    gameData.setBoardTileType(random.nextInt(gameData.getRows()), random.nextInt(gameData.getCols()), BOARD_TYPES[random.nextInt(BOARD_TYPES.length)]);
+
+                gameData.updateTileData(gameData.getScore(), frame);
+
+                long drawStartTime = System.nanoTime();
+                renderer.renderAllGameGraphics(gameData);
+                renderer.present();
+                drawTimes.record(System.nanoTime() - drawStartTime);
+
+                frame++;
+            }
+        }.start();
+    }
+
+    /**
+     * @param mode The mode that ran.
+     * @param drawTimes The time spent drawing each frame.
+     * @param frameTimes The time between frames.
+     */
+    private static void printSummary(RenderMode mode, Histogram drawTimes, Histogram frameTimes)
+    {
+        System.out.println(String.format(Locale.ROOT, "%-12s draw p50 %8.1f us  p99 %8.1f us  |  frame p50 %6.2f ms  p99 %6.2f ms  max %6.2f ms",
+                mode, drawTimes.getPercentile(50) / 1000.0, drawTimes.getPercentile(99) / 1000.0,
+                frameTimes.getPercentile(50) / 1_000_000.0, frameTimes.getPercentile(99) / 1_000_000.0, frameTimes.getMaxValue() / 1_000_000.0));
+    }
+
+    public static void main(String[] args)
+    {
+        int numOfFrames = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+        int changedTilesPerFrame = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        RenderBenchmark benchmark = new RenderBenchmark(numOfFrames, changedTilesPerFrame);
+        Platform.startup(benchmark::runNextMode);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.tetris_clone;
+
+/**
+ * This class contains enum types for the ways that the game canvas can be rendered.
+ */
+
+public enum RenderMode
+{
+    CANVAS,         // TetrisRenderer - each sprite is drawn to the canvas on its own.
+    FRAMEBUFFER     // FramebufferRenderer - sprites are composed in memory and drawn to the canvas at once.
+}
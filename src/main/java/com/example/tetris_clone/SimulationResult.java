@@ -0,0 +1,79 @@
+package com.example.tetris_clone;
+
+/**
+ * This class holds the outcome of one game played by the SimulationRunner.
+ */
+
+public class SimulationResult
+{
+    private final long seed;                    // The seed of the game's random stream.
+    private final int score;                    // The final score.
+    private final int lines;                    // The final number of cleared lines.
+    private final int level;                    // The final level.
+    private final int frames;                   // The number of frames the game lasted.
+    private final long stateHash;               // The Zobrist hash of the final game state.
+
+    /**
+     * @param newSeed The seed of the game's random stream.
+     * @param newScore The final score.
+     * @param newLines The final number of cleared lines.
+     * @param newLevel The final level.
+     * @param newFrames The number of frames the game lasted.
+     * @param newStateHash The Zobrist hash of the final game state.
+     */
+    public SimulationResult(long newSeed, int newScore, int newLines, int newLevel, int newFrames, long newStateHash)
+    {
+        seed = newSeed;
+        score = newScore;
+        lines = newLines;
+        level = newLevel;
+        frames = newFrames;
+        stateHash = newStateHash;
+    }
+
+    /**
+     * @return A hash of every field, used to check that two runs of the same game gave identical results.
+     */
+    public long getResultHash()
+    {
+        long hash = stateHash;
+
+        hash = hash * 31 + seed;
+        hash = hash * 31 + score;
+        hash = hash * 31 + lines;
+        hash = hash * 31 + level;
+        hash = hash * 31 + frames;
+
+        return hash;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public int getScore()
+    {
+        return score;
+    }
+
+    public int getLines()
+    {
+        return lines;
+    }
+
+    public int getLevel()
+    {
+        return level;
+    }
+
+    public int getFrames()
+    {
+        return frames;
+    }
+
+    public long getStateHash()
+    {
+        return stateHash;
+    }
+}
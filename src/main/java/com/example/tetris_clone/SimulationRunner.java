@@ -0,0 +1,140 @@
+package com.example.tetris_clone;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class plays many headless games at once, across any number of threads, with a bot that presses random inputs.
+ * Every game's seed is derived from a master seed, in game order, before any thread starts, and each game only draws
+   from its own engine's random stream. So the results of each game, and the order they are reported in, depend only on
+   the master seed - never on the thread count or how the threads are scheduled.
+ */
+
+public class SimulationRunner
+{
+    private static final int MAX_FRAMES_PER_GAME = 200_000;    // Ends games that the bot somehow never loses.
+
+    private final long masterSeed;                              // The seed that every game's seed is derived from.
+    private final int threadCount;                              // The number of threads that play games.
+
+    /**
+     * @param newMasterSeed The seed that every game's seed is derived from.
+     * @param newThreadCount The number of threads that play games.
+     */
+    public SimulationRunner(long newMasterSeed, int newThreadCount)
+    {
+        if (newThreadCount < 1)
+            throw new IllegalArgumentException("Thread count must be at least 1: " + newThreadCount);
+
+        masterSeed = newMasterSeed;
+        threadCount = newThreadCount;
+    }
+
+    /**
+     * Play 'numOfGames' games and wait for all of them to finish.
+     * @param numOfGames The number of games to play.
+     * @return The result of each game, indexed by game number.
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the games.
+     */
+    public SimulationResult[] run(int numOfGames) throws InterruptedException
+    {
+        SplittableRandom master = new SplittableRandom(masterSeed);
+        long[] seeds = new long[numOfGames];
+        SimulationResult[] results = new SimulationResult[numOfGames];
+        AtomicInteger nextGame = new AtomicInteger();
+        Thread[] threads = new Thread[threadCount];
+
+        // Derive every seed up front, in game order, so that game i always gets the same seed.
+        for (int game = 0; game < numOfGames; game++)
+            seeds[game] = master.nextLong();
+
+        for (int thread = 0; thread < threadCount; thread++)
+        {
+            threads[thread] = new Thread(() ->
+            {
+                GameEngine engine = new GameEngine();
+
+                for (int game = nextGame.getAndIncrement(); game < numOfGames; game = nextGame.getAndIncrement())
+                    results[game] = playGame(engine, seeds[game]);
+            }, "simulation-" + thread);
+
+            threads[thread].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        return results;
+    }
+
+    /**
+     * Play one game to the end with random inputs drawn from the game's own random stream.
+     * @param engine The engine to play on - reused between games.
+     * @param seed The seed of the game.
+     * @return The result of the game.
+     */
+    private static SimulationResult playGame(GameEngine engine, long seed)
+    {
+        int frames = 0;
+
+        engine.startNewGame(seed);
+        SplittableRandom random = engine.getGameRandom();
+
+        while (!engine.isGameOver() && frames < MAX_FRAMES_PER_GAME)
+        {
+            int inputs = 0;
+
+            switch (random.nextInt(12))
+            {
+                case 0 -> inputs = GameEngine.INPUT_MOVE_LEFT;
+                case 1 -> inputs = GameEngine.INPUT_MOVE_RIGHT;
+                case 2 -> inputs = GameEngine.INPUT_ROTATE_LEFT;
+                case 3 -> inputs = GameEngine.INPUT_ROTATE_RIGHT;
+                case 4 -> inputs = GameEngine.INPUT_HARD_DROP;
+                case 9, 10, 11 -> inputs = GameEngine.INPUT_SOFT_DROP;
+            }
+
+            engine.step(inputs);
+            frames++;
+        }
+
+        return new SimulationResult(seed, engine.getScore(), engine.getLines(), engine.getLevel(), frames, engine.getStateHash());
+    }
+
+    /**
+     * @param results The results of a run.
+     * @return A hash of every result, in game order. Equal for any two runs that gave identical results.
+     */
+    public static long combineResults(SimulationResult[] results)
+    {
+        long hash = 0;
+
+        for (SimulationResult result : results)
+            hash = hash * 31 + result.getResultHash();
+
+        return hash;
+    }
+
+    /**
+     * Run a simulation from the command line.
+     * @param args Number of games, master seed, and thread count. Defaults to 10000 games, seed 0, and every core.
+     * @throws InterruptedException If interrupted while waiting for the games.
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        int numOfGames = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long masterSeed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        long startTime = System.nanoTime();
+        SimulationResult[] results = new SimulationRunner(masterSeed, threadCount).run(numOfGames);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        long totalLines = 0;
+
+        for (SimulationResult result : results)
+            totalLines += result.getLines();
+
+        System.out.println(numOfGames + " games on " + threadCount + " threads in " + elapsedMillis + " ms, "
+                + totalLines + " lines, result hash " + Long.toHexString(combineResults(results)));
+    }
+}
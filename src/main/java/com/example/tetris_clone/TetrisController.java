@@ -25,6 +25,9 @@ public class TetrisController
         Scene currentScene = renderer.getScene();
         currentScene.setOnKeyPressed(event ->
         {
+            // Stamped first, so that input latency includes the time spent handling the key press.
+            long keyPressTime = System.nanoTime();
+
             // If the active menu is the 'playerNameTiles' menu, then use either keyboard letters or backspace to enter/delete
             // chars for when the player needs to enter their name after getting a high score.
             if (menuData.getActiveMenu() == 4)
@@ -50,7 +53,8 @@ public class TetrisController
             }
 
             {
-                // Left and Right arrow keys are used to move the current tetromino.
+                // Left and Right arrow keys are used to move the current tetromino. Holding them auto-repeats the move,
+                // timed by the Game from this press and the matching release - OS key repeat events are ignored.
                 switch (event.getCode())
                 {
                     case LEFT  ->
@@ -60,7 +64,7 @@ public class TetrisController
                             if (!isLeftHeld)
                             {
                                 isLeftHeld = true;
-                                moveTetromino(Direction.LEFT, game.getCurrentTetromino(), game);
+                                game.queueInput(InputAction.MOVE_LEFT, keyPressTime);
                             }
                         }
                     }
@@ -71,7 +75,7 @@ public class TetrisController
                             if (!isRightHeld)
                             {
                                 isRightHeld = true;
-                                moveTetromino(Direction.RIGHT, game.getCurrentTetromino(), game);
+                                game.queueInput(InputAction.MOVE_RIGHT, keyPressTime);
                             }
                         }
                     }
@@ -99,7 +103,7 @@ public class TetrisController
                             if (!isDownHeld)
                             {
                                 isDownHeld = true;
-                                game.setIsDownPressed(true);
+                                game.queueInput(InputAction.SOFT_DROP_START, keyPressTime);
                             }
                         }
                     }
@@ -126,7 +130,7 @@ public class TetrisController
                             if (!isUpHeld)
                             {
                                 isUpHeld = true;
-                                hardDropTetromino(game.getCurrentTetromino(), game);
+                                game.queueInput(InputAction.HARD_DROP, keyPressTime);
                             }
                         }
                     }
@@ -138,7 +142,7 @@ public class TetrisController
                             if (!is_z_held)
                             {
                                 is_z_held = true;
-                                rotateTetromino(Direction.LEFT, game.getCurrentTetromino(), game);
+                                game.queueInput(InputAction.ROTATE_LEFT, keyPressTime);
                             }
                         }
                     }
@@ -150,10 +154,12 @@ public class TetrisController
                             if (!is_x_held)
                             {
                                 is_x_held = true;
-                                rotateTetromino(Direction.RIGHT, game.getCurrentTetromino(), game);
+                                game.queueInput(InputAction.ROTATE_RIGHT, keyPressTime);
                             }
                         }
                     }
+                    // The F3 key shows or hides the input latency overlay.
+                    case F3 -> game.toggleStatsOverlay();
                     // The space and enter keys can be used to either click on the selected menu option if a menu is active,
                     // or to play/pause the game if the game is active.
                     case SPACE, ENTER ->
@@ -216,7 +222,6 @@ public class TetrisController
                                                 renderer.closeMenu();
                                                 menuData.setActiveMenu(1);
                                                 game.getSoundPlayer().startMusic();
-                                                game.getTetrominoDropper().start();
                                             }
                                             case 1 -> renderer.openMenu(5, 2, menuData);
                                             case 2 -> renderer.openMenu(6, 3, menuData);
@@ -229,7 +234,6 @@ public class TetrisController
                                         {
                                             game.pauseGame();
                                             game.getSoundPlayer().stopMusic();
-                                            game.getTetrominoDropper().stop();
                                             game.setIsMenuActive(true);
                                             renderer.openMenu(4, 1, menuData);
                                         }
@@ -240,7 +244,6 @@ public class TetrisController
                                                 case 0 ->
                                                 {
                                                     game.resumeGame();
-                                                    game.getTetrominoDropper().start();
                                                     game.setIsMenuActive(false);
                                                     renderer.closeMenu();
                                                     game.getSoundPlayer().resumeMusic();
@@ -273,15 +276,30 @@ public class TetrisController
             }
         });
 
+        // Releases are queued like presses, so that auto-repeat stops at the moment the key was let go.
         currentScene.setOnKeyReleased(event ->
         {
+            long keyReleaseTime = System.nanoTime();
+
             switch (event.getCode())
             {
-                case LEFT  -> isLeftHeld  = false;
-                case RIGHT -> isRightHeld = false;
+                case LEFT  ->
+                {
+                    if (isLeftHeld)
+                        game.queueInput(InputAction.MOVE_LEFT_END, keyReleaseTime);
+
+                    isLeftHeld  = false;
+                }
+                case RIGHT ->
+                {
+                    if (isRightHeld)
+                        game.queueInput(InputAction.MOVE_RIGHT_END, keyReleaseTime);
+
+                    isRightHeld = false;
+                }
                 case DOWN  ->
                 {
-                    game.setIsDownPressed(false);
+                    game.queueInput(InputAction.SOFT_DROP_END, keyReleaseTime);
                     isDownHeld  = false;
                 }
                 case UP    -> isUpHeld = false;
@@ -291,83 +309,4 @@ public class TetrisController
             }
         });
     }
-
-    /**
-     * The moveTetromino method moves the tetromino tiles according to direction, updates the game board tiles
-       to match the tetromino tiles, and renders the updated sprites.
-     * @param dir           Direction of user input
-     * @param tetromino     The tetromino being moved
-     * @param game          The current game
-     */
-    public static void moveTetromino(Direction dir, Tetromino tetromino, Game game)
-    {
-        switch (dir)
-        {
-            case LEFT  ->
-            {
-                if (game.isAnimationActive())
-                {
-                    tetromino.move(Direction.LEFT, game.getGameData().getGameboard());
-
-                    if (tetromino.getMovedOutOfBounds())
-                        game.playOutOfBoundsSound();
-                }
-            }
-            case RIGHT ->
-            {
-                if (game.isAnimationActive())
-                {
-                    tetromino.move(Direction.RIGHT, game.getGameData().getGameboard());
-
-                    if (tetromino.getMovedOutOfBounds())
-                        game.playOutOfBoundsSound();
-                }
-            }
-        }
-    }
-
-    /**
-     * The rotateTetromino method rotates the tetromino by rotating each of its tiles
-       around an axis tile by 90 degrees in the direction specified by user input.
-     * @param dir           The direction of user input
-     * @param tetromino     The tetromino being rotated
-     */
-    public static void rotateTetromino(Direction dir, Tetromino tetromino, Game game)
-    {
-        switch (dir)
-        {
-            case LEFT  ->
-            {
-                if (game.isAnimationActive())
-                {
-                    tetromino.rotate(Direction.LEFT, game.getGameData().getGameboard());
-                    game.playRotationSound();
-                }
-            }
-            case RIGHT ->
-            {
-                if (game.isAnimationActive())
-                {
-
-                    tetromino.rotate(Direction.RIGHT, game.getGameData().getGameboard());
-                    game.playRotationSound();
-                }
-            }
-        }
-    }
-
-    /**
-     * The hardDropTetromino method calls the Tetromino's hardDrop method and sets the game's 'isUpPressed' flag to true
-       so that the game knows that the tetromino was hard dropped.
-     * @param tetromino The game's current tetromino
-     * @param game The active game.
-     */
-    public void hardDropTetromino(Tetromino tetromino, Game game)
-    {
-        if (game.getGameActive())
-        {
-            tetromino.hardDrop(game.getGameData().getGameboard());
-            game.setIsUpPressed(true);
-        }
-    }
 }
@@ -7,22 +7,36 @@ import javafx.scene.image.Image;
 import javafx.scene.image.PixelReader;
 import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 
 /**
  * This class is used to render graphics using the Tiles of the gameData, menuData, and Tetrominos using Images.
+ * Every sprite is drawn through drawSprite() or drawBoardSprite(), so a subclass can draw them somewhere else, such as
+   the FramebufferRenderer, which composes the game canvas in memory and shows it with present().
  */
 
 public class TetrisRenderer
 {
+    // The Images in 'gameImages' that are sprite sheets - white letters and Tetrominos, cyan letters, and gold letters.
+    static final int[] SPRITE_SHEETS = {1, 2, 3};
+
+    // Where to find the sprite of each TileType, indexed by TileType.ordinal(), for the HUD and for menus - some letters
+    // are drawn as TETRIS chars in the HUD but as plain letters in menus.
+    private static final int[][] HUD_SPRITES = createHudSprites();
+    private static final int[][] MENU_SPRITES = createMenuSprites();
+
     private final Scene scene;
     private final GraphicsContext gameGC;
     private final GraphicsContext menuGC;
     private final GraphicsContext tetrominoGC;
+    private final GraphicsContext overlayGC;                  // Draws the stats overlay above everything else.
     private final int tileSize;
     private final ArrayList<Image> gameImages;                // Stores all Images used in the game.
+    private final Image[][][] spriteCells;                    // Tile sized sprites sliced from each sprite sheet once, indexed by [image index][row][column].
+    private final Image[] boardSprites;                       // The sprite of each game board and Tetromino TileType, indexed by TileType.ordinal().
 
     public TetrisRenderer()
     {
@@ -33,22 +47,39 @@ public class TetrisRenderer
         Canvas gameCanvas = new Canvas(Constants.GUI_WIDTH, Constants.GUI_HEIGHT);
         Canvas menuCanvas = new Canvas(Constants.GUI_WIDTH, Constants.GUI_HEIGHT);
         Canvas tetrominoCanvas = new Canvas(Constants.GUI_WIDTH, Constants.GUI_HEIGHT);
+        Canvas overlayCanvas = new Canvas(Constants.GUI_WIDTH, Constants.STATS_OVERLAY_HEIGHT);
         gameGC = gameCanvas.getGraphicsContext2D();
         menuGC = menuCanvas.getGraphicsContext2D();
         tetrominoGC = tetrominoCanvas.getGraphicsContext2D();
+        overlayGC = overlayCanvas.getGraphicsContext2D();
+        overlayCanvas.setMouseTransparent(true);
         Pane root = new Pane();
-        root.getChildren().addAll(gameCanvas, tetrominoCanvas, menuCanvas);
+        root.getChildren().addAll(gameCanvas, tetrominoCanvas, menuCanvas, overlayCanvas);
 
         // Create a scene and connect it to the stylesheet
         scene = new Scene(root);
 
-        // Load game images and store in list.
+        // Load game images and store in list, then slice the sprite sheets so that drawing a Tile is just a lookup.
         loadImages();
+        spriteCells = new Image[gameImages.size()][][];
+
+        for (int sheet : SPRITE_SHEETS)
+            spriteCells[sheet] = sliceSpriteSheet(gameImages.get(sheet));
+
+        boardSprites = createBoardSprites();
 
         // draw game screen.
         gameGC.drawImage(gameImages.get(0), 0,0);
     }
 
+    /**
+     * Show everything drawn since the last call. Sprites are drawn straight to the canvases, so there is nothing left
+       to do here - subclasses that draw somewhere else first override it.
+     */
+    public void present()
+    {
+    }
+
     /**
      * Change the image displayed on the game canvas.
      * @param index The index of the desired Images in 'gameImages'.
@@ -99,96 +130,26 @@ public class TetrisRenderer
     public void renderAllGameGraphics(GameData gameData)
     {
         for (int statsRow = 0; statsRow < gameData.getStats().length; statsRow++)
-            drawGameDataSprites(gameData, gameData.getStats()[statsRow]);
+            drawGameDataSprites(gameData.getStats()[statsRow]);
 
-        drawGameDataSprites(gameData, gameData.getLines());
-        drawGameDataSprites(gameData, gameData.getTopScore());
-        drawGameDataSprites(gameData, gameData.getScore());
-        drawGameDataSprites(gameData, gameData.getLevel());
+        drawGameDataSprites(gameData.getLines());
+        drawGameDataSprites(gameData.getTopScore());
+        drawGameDataSprites(gameData.getScore());
+        drawGameDataSprites(gameData.getLevel());
         drawGameSprites(gameData.getGameboard());
         drawGameSprites(gameData.getNextDisplay());
     }
 
     /**
      * Draw the correct images to the screen for each Tile's TileType.
-     * @param gameData The current game's GameData.
      * @param tiles The Tiles to draw images for.
      */
-    public void drawGameDataSprites(GameData gameData, Tile[] tiles)
+    public void drawGameDataSprites(Tile[] tiles)
     {
-        Image spriteSheet;
-
-        if (Arrays.equals(tiles, gameData.getTetrisDisplay()))
-            spriteSheet = gameImages.get(3);
-        else
-            spriteSheet = gameImages.get(1);
-
-        PixelReader reader = spriteSheet.getPixelReader();
-        WritableImage sprite;
-        int x;
-        int y = 64;
-
-        // identify the correct image for each TileType
         for (Tile tile : tiles)
         {
-            x = 0;
-
-            switch (tile.getType())
-            {
-                case ZERO -> x += 0;
-                case ONE -> x = 32;
-                case TWO -> x = 64;
-                case THREE -> x = 96;
-                case FOUR -> x = 128;
-                case FIVE -> x = 160;
-                case SIX -> x = 192;
-                case SEVEN -> x = 224;
-                case EIGHT -> x = 256;
-                case NINE -> x = 288;
-                case    T, T90, T180, T240,
-                        E, E90, E180, E240,
-                        S, S180 ->
-                {
-                    y = 64;
-
-                    switch (tile.getType())
-                    {
-                        case T -> x += 0;
-                        case T90 -> x = 32;
-                        case T180 -> x = 64;
-                        case T240 -> x = 96;
-                        case E -> x = 128;
-                        case E90 -> x = 160;
-                        case E180 -> x = 192;
-                        case E240 -> x = 224;
-                        case S -> x = 256;
-                        case S180 -> x = 288;
-                    }
-                }
-                case R, R90, R180, R240, I, I180 ->
-                {
-                    y = 96;
-
-                    switch (tile.getType())
-                    {
-                        case R -> x += 0;
-                        case R90 -> x = 32;
-                        case R180 -> x = 64;
-                        case R240 -> x = 96;
-                        case I -> x = 128;
-                        case I180 -> x = 160;
-                    }
-                }
-                case EMPTY ->
-                {
-                    x = 224;
-                    y = 96;
-                }
-            }
-
-            // draw the image at the specified location
-            sprite = new WritableImage(reader, x, y, tileSize, tileSize);
-            gameGC.drawImage(sprite, tile.getX(), tile.getY());
+            int[] sprite = HUD_SPRITES[tile.getType().ordinal()];
+            drawSprite(gameGC, sprite[2], sprite[0], sprite[1], tile.getX(), tile.getY());
         }
     }
 
@@ -198,119 +159,103 @@ public class TetrisRenderer
      */
     public void drawMenuSprites(Tile[][] menu)
     {
-        // menuSpriteSheet uses the image with white letters.
-        // menuSpriteSheet2 uses the image with gold letters.
-        // selectedSpriteSheet uses the image with cyan letters.
-        Image menuSpriteSheet = gameImages.get(1);
-        Image menuSpriteSheet2 = gameImages.get(3);
-        Image selectedSpriteSheet = gameImages.get(2);
-
-        PixelReader menuReader = menuSpriteSheet.getPixelReader();
-        PixelReader menuReader2 = menuSpriteSheet2.getPixelReader();
-        PixelReader selectedReader = selectedSpriteSheet.getPixelReader();
-        WritableImage sprite;
-        int x;
-        int y;
-
         for (Tile[] menuOption : menu)
         {
             for (Tile tile : menuOption)
             {
-                x = 0;
-
-                // TileTypes with just a letter are for white letters, TileTypes ending in 2 are cyan letters,
-                // and TileTypes ending in 3 are gold letters.
-                switch (tile.getType())
-                {
-                    case    A, A2, A3, B, B2, B3, C, C2, C3,
-                            I, I2, I3, L, L2, L3, R, R2, R3,
-                            S, S2, S3, T, T2, T3, N, N2, N3,
-                            O, O2, O3, P, P2, P3, V, V2, V3,
-                            X, X2, X3 ->
-                    {
-                        y = 0;
-
-                        switch (tile.getType())
-                        {
-                            case A, A2, A3 -> x += 0;
-                            case B, B2, B3 -> x = 32;
-                            case C, C2, C3 -> x = 64;
-                            case I, I2, I3 -> x = 96;
-                            case L, L2, L3 -> x = 128;
-                            case R, R2, R3 -> x = 160;
-                            case S, S2, S3 -> x = 192;
-                            case T, T2, T3 -> x = 224;
-                            case N, N2, N3 -> x = 256;
-                            case O, O2, O3 -> x = 288;
-                            case P, P2, P3 -> x = 320;
-                            case V, V2, V3 -> x = 352;
-                            case X, X2, X3 -> x = 384;
-                        }
-                    }
-
-                    case    U, U2, U3, M, M2, M3, W, W2, W3,
-                            G, G2, G3, Q, Q2, Q3, E, E2, E3,
-                            D, D2, D3, F, F2, F3, H, H2, H3,
-                            J, J2, J3, K, K2, K3, Y, Y2, Y3,
-                            Z, Z2, Z3 ->
-                    {
-                        y = 32;
-
-                        switch (tile.getType())
-                        {
-                            case M, M2, M3 -> x = 32;
-                            case W, W2, W3 -> x = 64;
-                            case G, G2, G3 -> x = 96;
-                            case Q, Q2, Q3 -> x = 128;
-                            case E, E2, E3 -> x = 160;
-                            case D, D2, D3 -> x = 192;
-                            case F, F2, F3 -> x = 224;
-                            case H, H2, H3 -> x = 256;
-                            case J, J2, J3 -> x = 288;
-                            case K, K2, K3 -> x = 320;
-                            case Y, Y2, Y3 -> x = 352;
-                            case Z, Z2, Z3 -> x = 384;
-                        }
-                    }
-
-                    case    ZERO, ONE, TWO,
-                            THREE, FOUR, FIVE,
-                            SIX, SEVEN, EIGHT,
-                            NINE ->
-                    {
-                        y = 64;
-
-                        switch (tile.getType())
-                        {
-                            case ONE -> x = 32;
-                            case TWO -> x = 64;
-                            case THREE -> x = 96;
-                            case FOUR -> x = 128;
-                            case FIVE -> x = 160;
-                            case SIX -> x = 192;
-                            case SEVEN -> x = 224;
-                            case EIGHT -> x = 256;
-                            case NINE -> x = 288;
-                        }
-                    }
-                    default ->
-                    {
-                        x = 224;
-                        y = 96;
-                    }
-                }
-
-                // draw the image at the specified location
-                if (tile.getType().toString().endsWith("2"))
-                    sprite = new WritableImage(selectedReader, x, y, tileSize, tileSize);
-                else if (tile.getType().toString().endsWith("3"))
-                    sprite = new WritableImage(menuReader2, x, y, tileSize, tileSize);
-                else
-                    sprite = new WritableImage(menuReader, x, y, tileSize, tileSize);
-
-                menuGC.drawImage(sprite, tile.getX(), tile.getY());
+                int[] sprite = MENU_SPRITES[tile.getType().ordinal()];
+                drawSprite(menuGC, sprite[2], sprite[0], sprite[1], tile.getX(), tile.getY());
+            }
+        }
+    }
+
+    /**
+     * @return The sprite of each TileType in the HUD and TETRIS display, as {x, y, sprite sheet}, indexed by
+       TileType.ordinal(). Digits come from the white sprite sheet and the TETRIS chars from the gold one. Every other
+       TileType gets the EMPTY sprite, which is the same in every sprite sheet.
+     */
+    private static int[][] createHudSprites()
+    {
+        int[][] sprites = new int[TileType.values().length][];
+        Arrays.fill(sprites, new int[] {224, 96, 1});
+
+        setSpriteRow(sprites, 64, 1, TileType.ZERO, TileType.ONE, TileType.TWO, TileType.THREE, TileType.FOUR,
+                TileType.FIVE, TileType.SIX, TileType.SEVEN, TileType.EIGHT, TileType.NINE);
+        setSpriteRow(sprites, 64, 3, TileType.T, TileType.T90, TileType.T180, TileType.T240, TileType.E,
+                TileType.E90, TileType.E180, TileType.E240, TileType.S, TileType.S180);
+        setSpriteRow(sprites, 96, 3, TileType.R, TileType.R90, TileType.R180, TileType.R240, TileType.I, TileType.I180);
+
+        return sprites;
+    }
+
+    /**
+     * @return The sprite of each TileType in the menus, as {x, y, sprite sheet}, indexed by TileType.ordinal().
+       Plain letters are white, letters ending in 2 are cyan, and letters ending in 3 are gold - each color has its own
+       sprite sheet with the letters at the same positions. Every other TileType gets the EMPTY sprite.
+     */
+    private static int[][] createMenuSprites()
+    {
+        int[][] sprites = new int[TileType.values().length][];
+        Arrays.fill(sprites, new int[] {224, 96, 1});
+
+        TileType[][] letterRows =
+        {
+            {TileType.A, TileType.B, TileType.C, TileType.I, TileType.L, TileType.R, TileType.S, TileType.T, TileType.N, TileType.O, TileType.P, TileType.V, TileType.X},
+            {TileType.U, TileType.M, TileType.W, TileType.G, TileType.Q, TileType.E, TileType.D, TileType.F, TileType.H, TileType.J, TileType.K, TileType.Y, TileType.Z}
+        };
+
+        for (int row = 0; row < letterRows.length; row++)
+        {
+            for (int col = 0; col < letterRows[row].length; col++)
+            {
+                String letter = letterRows[row][col].name();
+                int x = col * Constants.TILE_SIZE;
+                int y = row * Constants.TILE_SIZE;
+
+                sprites[TileType.valueOf(letter).ordinal()] = new int[] {x, y, 1};
+                sprites[TileType.valueOf(letter + "2").ordinal()] = new int[] {x, y, 2};
+                sprites[TileType.valueOf(letter + "3").ordinal()] = new int[] {x, y, 3};
             }
         }
+
+        setSpriteRow(sprites, 64, 1, TileType.ZERO, TileType.ONE, TileType.TWO, TileType.THREE, TileType.FOUR,
+                TileType.FIVE, TileType.SIX, TileType.SEVEN, TileType.EIGHT, TileType.NINE);
+
+        return sprites;
+    }
+
+    /**
+     * Set the sprites of TileTypes that sit next to each other in a row of a sprite sheet, starting from the left.
+     * @param sprites The sprite table to fill, indexed by TileType.ordinal().
+     * @param y The y position of the row in the sprite sheet.
+     * @param spriteSheet The index of the sprite sheet in 'gameImages'.
+     * @param types The TileTypes, from left to right.
+     */
+    private static void setSpriteRow(int[][] sprites, int y, int spriteSheet, TileType... types)
+    {
+        for (int col = 0; col < types.length; col++)
+            sprites[types[col].ordinal()] = new int[] {col * Constants.TILE_SIZE, y, spriteSheet};
+    }
+
+    /**
+     * Replace the text of the stats overlay at the top of the screen.
+     * @param text The text to show.
+     */
+    public void drawStatsOverlay(String text)
+    {
+        clearStatsOverlay();
+        overlayGC.setFill(Color.color(0, 0, 0, 0.6));
+        overlayGC.fillRect(0, 0, Constants.GUI_WIDTH, Constants.STATS_OVERLAY_HEIGHT);
+        overlayGC.setFill(Color.WHITE);
+        overlayGC.fillText(text, 8, Constants.STATS_OVERLAY_HEIGHT - 8);
+    }
+
+    /**
+     * Hide the stats overlay.
+     */
+    public void clearStatsOverlay()
+    {
+        overlayGC.clearRect(0, 0, Constants.GUI_WIDTH, Constants.STATS_OVERLAY_HEIGHT);
     }
 
     /**
@@ -327,30 +272,14 @@ public class TetrisRenderer
      */
     public void drawTetromino(Tetromino tetromino)
     {
-        Image spriteSheet = gameImages.get(1);
-        PixelReader reader = spriteSheet.getPixelReader();
-        WritableImage sprite;
-
-        int x = 0;
-        int y = 96;
+        TileType type = tetromino.getTetrominoType();
 
         clearTetromino();
 
-        for (Tile tile : tetromino.getTiles())
+        // Tetrominos are stored as game board rows and columns, so convert each Tile to its pixel position here.
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
         {
-            switch (tile.getType())
-            {
-                case T_TET              -> x = 0;
-                case J_TET              -> x = 32;
-                case Z_TET              -> x = 64;
-                case O_TET              -> x = 96;
-                case S_TET              -> x = 128;
-                case L_TET              -> x = 160;
-                case I_TET              -> x = 192;
-            }
-
-            sprite = new WritableImage(reader, x, y, tileSize, tileSize);
-            tetrominoGC.drawImage(sprite, tile.getX(), tile.getY());
+            drawBoardSprite(tetrominoGC, type, Constants.GAMEBOARD_STARTING_X + tetromino.getTileCol(tile) * tileSize, Constants.GAMEBOARD_STARTING_Y + tetromino.getTileRow(tile) * tileSize);
         }
     }
 
@@ -360,34 +289,97 @@ public class TetrisRenderer
      */
     public void drawGameSprites(Tile[][] boardTiles)
     {
-        Image spriteSheet = gameImages.get(1);
-        PixelReader reader = spriteSheet.getPixelReader();
-        WritableImage sprite;
-
-        int x = 0;
-        int y = 96;
-
         for (Tile[] row : boardTiles)
         {
             for (Tile tile : row)
-            {
-                switch (tile.getType())
-                {
-                    case T_TET              -> x = 0;
-                    case J_TET              -> x = 32;
-                    case Z_TET              -> x = 64;
-                    case O_TET              -> x = 96;
-                    case S_TET              -> x = 128;
-                    case L_TET              -> x = 160;
-                    case I_TET              -> x = 192;
-                    case EMPTY              -> x = 224;
-                    case PREVIEW            -> x = 320;
-                    case WHITE              -> x = 352;
-                }
-                sprite = new WritableImage(reader, x, y, tileSize, tileSize);
-                gameGC.drawImage(sprite, tile.getX(), tile.getY());
-            }
+                drawBoardSprite(gameGC, tile.getType(), tile.getX(), tile.getY());
+        }
+    }
+
+    /**
+     * Draw only the game board Tiles whose TileType has changed since they were last drawn, and mark them as drawn.
+     * @param gameData The current game's GameData.
+     */
+    public void drawDirtyGameSprites(GameData gameData)
+    {
+        Tile[][] boardTiles = gameData.getGameboard();
+        int cols = gameData.getCols();
+
+        for (int index = gameData.pollDirtyTile(); index >= 0; index = gameData.pollDirtyTile())
+        {
+            Tile tile = boardTiles[index / cols][index % cols];
+            drawBoardSprite(gameGC, tile.getType(), tile.getX(), tile.getY());
+        }
+    }
+
+    /**
+     * Draw one Tile sized sprite from the sprites sliced out of a sprite sheet.
+     * @param gc The GraphicsContext to draw to.
+     * @param spriteSheet The index of the sprite sheet in 'gameImages'.
+     * @param spriteX The x position of the sprite in the sprite sheet.
+     * @param spriteY The y position of the sprite in the sprite sheet.
+     * @param x The x position to draw the sprite at.
+     * @param y The y position to draw the sprite at.
+     */
+    protected void drawSprite(GraphicsContext gc, int spriteSheet, int spriteX, int spriteY, double x, double y)
+    {
+        gc.drawImage(spriteCells[spriteSheet][spriteY / tileSize][spriteX / tileSize], x, y);
+    }
+
+    /**
+     * Draw the sprite of a game board or Tetromino TileType.
+     * @param gc The GraphicsContext to draw to.
+     * @param type The TileType to draw.
+     * @param x The x position to draw the sprite at.
+     * @param y The y position to draw the sprite at.
+     */
+    protected void drawBoardSprite(GraphicsContext gc, TileType type, double x, double y)
+    {
+        gc.drawImage(boardSprites[type.ordinal()], x, y);
+    }
+
+    /**
+     * Copy every Tile sized cell of a sprite sheet into its own Image.
+     * @param spriteSheet The sprite sheet.
+     * @return The sprites, indexed by [row][column] of the sprite sheet.
+     */
+    private Image[][] sliceSpriteSheet(Image spriteSheet)
+    {
+        PixelReader reader = spriteSheet.getPixelReader();
+        int rows = (int) spriteSheet.getHeight() / tileSize;
+        int cols = (int) spriteSheet.getWidth() / tileSize;
+        Image[][] cells = new Image[rows][cols];
+
+        for (int row = 0; row < rows; row++)
+        {
+            for (int col = 0; col < cols; col++)
+                cells[row][col] = new WritableImage(reader, col * tileSize, row * tileSize, tileSize, tileSize);
         }
+
+        return cells;
+    }
+
+    /**
+     * @return The sprite of each TileType that can be on the game board or in a Tetromino, indexed by TileType.ordinal().
+       Every other TileType gets the EMPTY sprite.
+     */
+    private Image[] createBoardSprites()
+    {
+        Image[] boardRow = spriteCells[1][3];
+        Image[] sprites = new Image[TileType.values().length];
+        Arrays.fill(sprites, boardRow[7]);
+
+        sprites[TileType.T_TET.ordinal()] = boardRow[0];
+        sprites[TileType.J_TET.ordinal()] = boardRow[1];
+        sprites[TileType.Z_TET.ordinal()] = boardRow[2];
+        sprites[TileType.O_TET.ordinal()] = boardRow[3];
+        sprites[TileType.S_TET.ordinal()] = boardRow[4];
+        sprites[TileType.L_TET.ordinal()] = boardRow[5];
+        sprites[TileType.I_TET.ordinal()] = boardRow[6];
+        sprites[TileType.PREVIEW.ordinal()] = boardRow[10];
+        sprites[TileType.WHITE.ordinal()] = boardRow[11];
+
+        return sprites;
     }
 
     /**
@@ -407,6 +399,32 @@ public class TetrisRenderer
         }
     }
 
+    /**
+     * @param index The index of the Image in 'gameImages'.
+     * @return The Image.
+     */
+    protected Image getGameImage(int index)
+    {
+        return gameImages.get(index);
+    }
+
+    /**
+     * @param type A game board or Tetromino TileType.
+     * @return The sprite drawn for the TileType.
+     */
+    protected Image getBoardSprite(TileType type)
+    {
+        return boardSprites[type.ordinal()];
+    }
+
+    /**
+     * @return The GraphicsContext of the game canvas, which holds the background, game board, next display and HUD.
+     */
+    protected GraphicsContext getGameGC()
+    {
+        return gameGC;
+    }
+
     /**
      * @return the TetrisRenderer's scene.
      */
@@ -1,215 +1,194 @@
 package com.example.tetris_clone;
 
-import java.util.*;
-
 /**
- * This class represents a Tetromino - an array of 4 Tiles.
+ * This class represents a Tetromino - a type, a rotation state, and the game board row and column of its bounding box.
+ * The cells of each type and rotation state are looked up from static tables, and pixel positions are only derived
+   when the Tetromino is rendered.
  * Tetrominos are able to fall, soft drop, hard drop, move, and rotate.
- * Tetrominos also contain methods to generate a new type, reset their Tile positions, etc.
+ * Tetrominos also contain methods to change their type, reset their position, etc.
  */
 
 public class Tetromino
 {
-    private final Tile[] tetrominoTiles;
+    public static final int NUM_OF_TILES = 4;           // The number of Tiles in every Tetromino.
+    private static final int NUM_OF_ROTATIONS = 4;      // The number of rotation states - spawn, right, 180, and left.
+
+    // The Tetromino types, in the order used to index the tables below.
+    private static final TileType[] TYPES = {TileType.T_TET, TileType.J_TET, TileType.Z_TET, TileType.O_TET, TileType.S_TET, TileType.L_TET, TileType.I_TET};
+
+    // The size of the square bounding box that each type rotates within.
+    private static final int[] BOX_SIZES = {3, 3, 3, 3, 3, 3, 4};
+
+    // The {row, col} of each Tile in the spawn rotation state, relative to the top left corner of the bounding box.
+    private static final int[][][] SPAWN_CELLS =
+    {
+        {{0, 1}, {1, 0}, {1, 1}, {1, 2}},   // T
+        {{0, 0}, {1, 0}, {1, 1}, {1, 2}},   // J
+        {{0, 0}, {0, 1}, {1, 1}, {1, 2}},   // Z
+        {{0, 1}, {0, 2}, {1, 1}, {1, 2}},   // O
+        {{0, 1}, {0, 2}, {1, 0}, {1, 1}},   // S
+        {{0, 2}, {1, 0}, {1, 1}, {1, 2}},   // L
+        {{1, 0}, {1, 1}, {1, 2}, {1, 3}}    // I
+    };
+
+    // The {row, col} offset of each type's bounding box from the starting row and column, so that every type spawns in
+    // the same cells as the original Tile layouts.
+    private static final int[][] SPAWN_OFFSETS = {{0, 0}, {0, 0}, {0, 1}, {0, 0}, {0, 0}, {0, 1}, {-1, 0}};
+
+    // Row and column offsets of each Tile, indexed by [type][rotation][tile]. Built once from SPAWN_CELLS.
+    private static final int[][][] ROW_OFFSETS = new int[TYPES.length][NUM_OF_ROTATIONS][NUM_OF_TILES];
+    private static final int[][][] COL_OFFSETS = new int[TYPES.length][NUM_OF_ROTATIONS][NUM_OF_TILES];
+
+    // Bitboard masks of each bounding box row, indexed by [type][rotation][box row]. Used for collision probes.
+    private static final int[][][] ROW_MASKS = new int[TYPES.length][NUM_OF_ROTATIONS][];
+
+    static
+    {
+        for (int type = 0; type < TYPES.length; type++)
+        {
+            for (int tile = 0; tile < NUM_OF_TILES; tile++)
+            {
+                int row = SPAWN_CELLS[type][tile][0];
+                int col = SPAWN_CELLS[type][tile][1];
+
+                for (int rotation = 0; rotation < NUM_OF_ROTATIONS; rotation++)
+                {
+                    if (ROW_MASKS[type][rotation] == null)
+                        ROW_MASKS[type][rotation] = new int[BOX_SIZES[type]];
+
+                    ROW_OFFSETS[type][rotation][tile] = row;
+                    COL_OFFSETS[type][rotation][tile] = col;
+                    ROW_MASKS[type][rotation][row] |= 1 << col;
+
+                    // Rotate the cell clockwise within the bounding box for the next rotation state. The O Tetromino
+                    // looks the same in every rotation state, so its cells stay put.
+                    if (TYPES[type] != TileType.O_TET)
+                    {
+                        int rotatedRow = col;
+                        col = BOX_SIZES[type] - 1 - row;
+                        row = rotatedRow;
+                    }
+                }
+            }
+        }
+    }
+
+    // Super Rotation System wall kicks, indexed by [starting rotation][0 for clockwise, 1 for counter-clockwise][test].
+    // Each kick is {x, y} as written in the SRS guideline, where positive y is up, so it moves the Tetromino by -y rows.
+    private static final int[][][][] JLSTZ_KICKS =
+    {
+        {{{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}}, {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}}},     // 0 -> R, 0 -> L
+        {{{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},     {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}}},      // R -> 2, R -> 0
+        {{{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},    {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}}},  // 2 -> L, 2 -> R
+        {{{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}},  {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}}}    // L -> 0, L -> 2
+    };
+    private static final int[][][][] I_KICKS =
+    {
+        {{{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}},   {{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}}},    // 0 -> R, 0 -> L
+        {{{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}},   {{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}}},    // R -> 2, R -> 0
+        {{{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}},   {{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}}},    // 2 -> L, 2 -> R
+        {{{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}},   {{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}}}     // L -> 0, L -> 2
+    };
+
     private TileType tetrominoType;
+    private int typeIndex;                              // Index of tetrominoType in the tables above.
+    private int row, col;                               // Game board row and column of the bounding box's top left corner.
+    private int rotation;                               // Current rotation state, 0 to 3, clockwise from spawn.
+    private boolean isPlaced;                           // Has the Tetromino landed or not
     private int rowsSoftDropped;
     private int rowsHardDropped;
     private boolean movedOutOfBounds;
-    private int[][] matrix;
-    private final int[][] tileVectors;
-    private int[] vector;
-    private final int tileSize;
-    private int row, col;
-    private int distanceToPlacement;
-
-    public Tetromino()
+    private int distanceToPlacement;                    // Rows between the Tetromino and its placement location.
+
+    /**
+     * Create a Tetromino of the given type. Types are chosen by a PieceGenerator.
+     * @param newType The Tetromino's TileType.
+     */
+    public Tetromino(TileType newType)
     {
-        // create a new ArrayList of Tiles for the Tetromino
-        tetrominoTiles = new Tile[4];
-        tetrominoType = generateNewType();
+        setTetrominoType(newType);
         rowsSoftDropped = 0;
         rowsHardDropped = 0;
         distanceToPlacement = 0;
-        matrix = new int[tetrominoTiles.length][];
-        tileVectors = new int[tetrominoTiles.length][];
-        vector = new int[tetrominoTiles.length];
-        tileSize = Constants.TILE_SIZE;
         movedOutOfBounds = false;
     }
 
     /**
-     * Initialize Tetromino Tiles
-     * @param startingX Starting Tetromino x position.
-     * @param startingY Starting Tetromino y position.
+     * Reset the Tetromino to its spawn rotation state, with its bounding box placed according to its type.
+     * @param startingRow Starting Tetromino row.
+     * @param startingCol Starting Tetromino column.
      */
-    public void generateNewTileList(int startingX, int startingY)
+    public void resetTetromino(int startingRow, int startingCol)
     {
-        switch (tetrominoType)
-        {
-            case T_TET ->
-            {
-                tetrominoTiles[0] = new Tile(startingX + tileSize, startingY, tetrominoType);
-                tetrominoTiles[1] = new Tile(startingX, startingY + tileSize, tetrominoType);
-                tetrominoTiles[2] = new Tile(startingX + tileSize, startingY + tileSize, tetrominoType);
-                tetrominoTiles[3] = new Tile(startingX + tileSize * 2, startingY + tileSize, tetrominoType);
-
-            }
-            case J_TET ->
-            {
-                tetrominoTiles[0] = new Tile(startingX, startingY, tetrominoType);
-                tetrominoTiles[1] = new Tile(startingX, startingY + tileSize, tetrominoType);
-                tetrominoTiles[2] = new Tile(startingX + tileSize, startingY + tileSize, tetrominoType);
-                tetrominoTiles[3] = new Tile(startingX + tileSize * 2, startingY + tileSize, tetrominoType);
-            }
-            case Z_TET ->
-            {
-                tetrominoTiles[0] = new Tile(startingX + tileSize, startingY, tetrominoType);
-                tetrominoTiles[1] = new Tile(startingX + tileSize * 2, startingY, tetrominoType);
-                tetrominoTiles[2] = new Tile(startingX + tileSize * 2, startingY + tileSize, tetrominoType);
-                tetrominoTiles[3] = new Tile(startingX + tileSize * 3, startingY + tileSize, tetrominoType);
-            }
-            case O_TET ->
-            {
-                tetrominoTiles[0] = new Tile(startingX + tileSize, startingY, tetrominoType);
-                tetrominoTiles[1] = new Tile(startingX + tileSize * 2, startingY, tetrominoType);
-                tetrominoTiles[2] = new Tile(startingX + tileSize, startingY + tileSize, tetrominoType);
-                tetrominoTiles[3] = new Tile(startingX + tileSize * 2, startingY + tileSize, tetrominoType);
-            }
-            case S_TET ->
-            {
-                tetrominoTiles[0] = new Tile(startingX + tileSize, startingY, tetrominoType);
-                tetrominoTiles[1] = new Tile(startingX + tileSize * 2, startingY, tetrominoType);
-                tetrominoTiles[2] = new Tile(startingX, startingY + tileSize, tetrominoType);
-                tetrominoTiles[3] = new Tile(startingX + tileSize, startingY + tileSize, tetrominoType);
-            }
-            case L_TET ->
-            {
-                tetrominoTiles[0] = new Tile(startingX + tileSize * 3, startingY, tetrominoType);
-                tetrominoTiles[1] = new Tile(startingX + tileSize, startingY + tileSize, tetrominoType);
-                tetrominoTiles[2] = new Tile(startingX + tileSize * 2, startingY + tileSize, tetrominoType);
-                tetrominoTiles[3] = new Tile(startingX + tileSize * 3, startingY + tileSize, tetrominoType);
-            }
-            case I_TET ->
-            {
-                tetrominoTiles[0] = new Tile(startingX, startingY, tetrominoType);
-                tetrominoTiles[1] = new Tile(startingX + tileSize, startingY, tetrominoType);
-                tetrominoTiles[2] = new Tile(startingX + tileSize * 2, startingY, tetrominoType);
-                tetrominoTiles[3] = new Tile(startingX + tileSize * 3, startingY, tetrominoType);
-            }
-        }
+        row = startingRow + SPAWN_OFFSETS[typeIndex][0];
+        col = startingCol + SPAWN_OFFSETS[typeIndex][1];
+        rotation = 0;
+        isPlaced = false;
     }
 
     /**
-     * Reset Tetromino Tiles to starting positions based on its type.
-     * @param startingX Starting Tetromino x position.
-     * @param startingY Starting Tetromino y position.
+     * Drop the Tetromino by 1 row if there is room.
+     * If not, then place the Tetromino.
+     * @param gameData Game data - used to check for placed Tiles on the game board.
      */
-    public void resetTetromino(int startingX, int startingY)
+    public void fall(GameData gameData)
     {
-        switch (tetrominoType)
-        {
-            case T_TET ->
-            {
-                Helper.resetTileToDefault(startingX + tileSize, startingY, tetrominoType, tetrominoTiles, 0);
-                Helper.resetTileToDefault(startingX, startingY + tileSize, tetrominoType, tetrominoTiles, 1);
-                Helper.resetTileToDefault(startingX + tileSize, startingY + tileSize, tetrominoType, tetrominoTiles, 2);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY + tileSize, tetrominoType, tetrominoTiles, 3);
-            }
-            case J_TET ->
-            {
-                Helper.resetTileToDefault(startingX, startingY, tetrominoType, tetrominoTiles, 0);
-                Helper.resetTileToDefault(startingX, startingY + tileSize, tetrominoType, tetrominoTiles, 1);
-                Helper.resetTileToDefault(startingX + tileSize, startingY + tileSize, tetrominoType, tetrominoTiles, 2);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY + tileSize, tetrominoType, tetrominoTiles, 3);
-            }
-            case Z_TET ->
-            {
-                Helper.resetTileToDefault(startingX + tileSize, startingY, tetrominoType, tetrominoTiles, 0);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY, tetrominoType, tetrominoTiles, 1);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY + tileSize, tetrominoType, tetrominoTiles, 2);
-                Helper.resetTileToDefault(startingX + tileSize * 3, startingY + tileSize, tetrominoType, tetrominoTiles, 3);
-            }
-            case O_TET ->
-            {
-                Helper.resetTileToDefault(startingX + tileSize, startingY, tetrominoType, tetrominoTiles, 0);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY, tetrominoType, tetrominoTiles, 1);
-                Helper.resetTileToDefault(startingX + tileSize, startingY + tileSize, tetrominoType, tetrominoTiles, 2);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY + tileSize, tetrominoType, tetrominoTiles, 3);
-            }
-            case S_TET ->
-            {
-                Helper.resetTileToDefault(startingX + tileSize, startingY, tetrominoType, tetrominoTiles, 0);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY, tetrominoType, tetrominoTiles, 1);
-                Helper.resetTileToDefault(startingX, startingY + tileSize, tetrominoType, tetrominoTiles, 2);
-                Helper.resetTileToDefault(startingX + tileSize, startingY + tileSize, tetrominoType, tetrominoTiles, 3);
-            }
-            case L_TET ->
-            {
-                Helper.resetTileToDefault(startingX + tileSize * 3, startingY, tetrominoType, tetrominoTiles, 0);
-                Helper.resetTileToDefault(startingX + tileSize, startingY + tileSize, tetrominoType, tetrominoTiles, 1);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY + tileSize, tetrominoType, tetrominoTiles, 2);
-                Helper.resetTileToDefault(startingX + tileSize * 3, startingY + tileSize, tetrominoType, tetrominoTiles, 3);
-            }
-            case I_TET ->
-            {
-                Helper.resetTileToDefault(startingX, startingY, tetrominoType, tetrominoTiles, 0);
-                Helper.resetTileToDefault(startingX + tileSize, startingY, tetrominoType, tetrominoTiles, 1);
-                Helper.resetTileToDefault(startingX + tileSize * 2, startingY, tetrominoType, tetrominoTiles, 2);
-                Helper.resetTileToDefault(startingX + tileSize * 3, startingY, tetrominoType, tetrominoTiles, 3);
-            }
-        }
+        fall(gameData, 1);
     }
 
     /**
-     * Drop the Tetromino by 'distanceToFall' if there is room.
-     * If not, then place the Tetromino.
-     * @param boardTiles Game board Tiles - used to check for placed Tiles on the game board.
+     * Drop the Tetromino by up to 'rows' rows in one step, stopping at its placement location, and place it if it
+       reaches that location.
+     * @param gameData Game data - used to check for placed Tiles.
+     * @param rows The most rows to drop - at least the game board's rows drops the Tetromino straight to its placement location.
+     * @return The number of rows the Tetromino dropped.
      */
-    public void fall(Tile[][] boardTiles)
+    public int fall(GameData gameData, int rows)
     {
         // Calculate the distance to the Tetromino's placement location.
-        distanceToPlacement =  Helper.getTetrominoDropDistance(tetrominoTiles, boardTiles);
+        distanceToPlacement = getDropDistance(gameData);
+        int rowsFallen = Math.min(rows, distanceToPlacement);
 
-        // If there is room, drop the Tetromino by 1 tile space.
-        if (distanceToPlacement >= Constants.TILE_SIZE)
-        {
-            for (Tile tile : tetrominoTiles)
-                tile.setY(tile.getY() + Constants.TILE_SIZE);
-        }
+        row += rowsFallen;
 
-        // If there is no room to drop, then place the Tetromino.
-        if (distanceToPlacement <= Constants.TILE_SIZE)
-        {
-            for (Tile tetrominoTile : tetrominoTiles)
-                tetrominoTile.setIsPlacedTetrominoTile(true);
-        }
+        // If there is no room left to drop, then place the Tetromino.
+        if (distanceToPlacement <= rows)
+            isPlaced = true;
+
+        return rowsFallen;
     }
 
     /**
      * Instantly drop the Tetromino to its placement position, indicated by the preview Tiles on the game board.
      * Calculate the number of rows hard dropped and increment accordingly in order to accurately calculate score.
-     * @param boardTiles Game board Tiles - used to determine placement location.
+     * @param gameData Game data - used to determine placement location.
      */
-    public void hardDrop(Tile[][] boardTiles)
+    public void hardDrop(GameData gameData)
     {
         // Calculate Tetromino placement location and number of rows hard dropped, and then update Tetromino position
         // to the placement position.
-        incrementRowsHardDropped(boardTiles);
+        incrementRowsHardDropped(gameData);
 
         // After dropping Tetromino, place it.
-        for (Tile tile : tetrominoTiles)
-            tile.setIsPlacedTetrominoTile(true);
+        isPlaced = true;
+    }
+
+    /**
+     * Move the Tetromino down by 'rows' rows without any collision checks - used once the drop distance is known.
+     * @param rows The number of rows to move down.
+     */
+    public void drop(int rows)
+    {
+        row += rows;
     }
 
     /**
      * Move the Tetromino in the specified direction by 1 tile space.
      * @param dir The direction of input.
-     * @param boardTiles Game board Tiles - used to check if movement was legal or not.
+     * @param gameData Game data - used to check if movement was legal or not.
      */
-    public void move(Direction dir, Tile[][] boardTiles)
+    public void move(Direction dir, GameData gameData)
     {
-        movedOutOfBounds = false;
-        int distanceToBorder = Helper.getDistanceToBorder(dir, tetrominoTiles);
         int offset = 0;
 
         switch (dir)
@@ -218,185 +197,69 @@ public class Tetromino
             case RIGHT -> offset = 1;
         }
 
-        // Check to see if desired movement is legal.
-        for (Tile tile : tetrominoTiles)
-        {
-            row = Helper.getRow(tile);
-            col = Helper.getCol(tile);
-
-            if (col > 0 && col < Constants.GAMEBOARD_COLS - 1)
-            {
-                if (boardTiles[row][col + offset].getIsPlacedTetrominoTile())
-                {
-                    movedOutOfBounds = true;
-                    break;
-                }
-            }
-
-            if (distanceToBorder < Constants.TILE_SIZE)
-            {
-                movedOutOfBounds = true;
-                break;
-            }
-        }
+        // The game board borders and placed Tiles both block movement.
+        movedOutOfBounds = collides(row, col + offset, rotation, gameData);
 
-        // If movement is legal, then move tetromino by 1 tile space in the desired direction.
         if (!movedOutOfBounds)
-        {
-            for (Tile tile : tetrominoTiles)
-                tile.setX(tile.getX() + offset * Constants.TILE_SIZE);
-        }
+            col += offset;
     }
 
     /**
-     * Rotate the Tetromino Tiles around its axis Tile in the desired direction using matrices.
+     * Rotate the Tetromino by 90 degrees in the desired direction within its bounding box, using the Super Rotation
+       System. If the rotated Tetromino collides with a border or placed Tile, each of the wall kicks for the rotation
+       is tried in order, and if none of them fit, the rotation does not happen.
      * @param dir The direction of input.
-     * @param boardTiles Game board Tiles.
+     * @param gameData Game data - used to check for collisions with placed Tiles.
+     * @return Whether the Tetromino was rotated.
      */
-    public void rotate(Direction dir, Tile[][] boardTiles)
+    public boolean rotate(Direction dir, GameData gameData)
     {
-        if (!tetrominoType.equals(TileType.O_TET))
-        {
-            // Create a list that holds the homogeneous position vector of each tile.
-            // Also create lists to hold initial x and y positions in case rotation is illegal and
-            // the Tetromino needs to be returned to its initial position.
-            int[] initial_x_positions = new int[tetrominoTiles.length];
-            int[] initial_y_positions = new int[tetrominoTiles.length];
-            int i = 0;
-
-            for (Tile tile : tetrominoTiles)
-            {
-                vector = new int[]{tile.getX(), tile.getY(), 1};
-                tileVectors[i] = vector;
-                initial_x_positions[i] = tile.getX();
-                initial_y_positions[i] = tile.getY();
-                i++;
-            }
-
-            // translation
-            assembleMatrix("t");
-            reassignVectors();
-
-            // rotation
-            assembleMatrix(dir);
-            reassignVectors();
-
-            // detranslation
-            assembleMatrix("d");
-            reassignVectors();
-
-            // Lastly, update the positions of each Tile in the tetromino to the new position
-            int listIndex = 0;
-            int xOffset = 0;
-            int yOffset = 0;
-            int xDifference = 0;
-            int yDifference = 0;
-
-            for (Tile tile : tetrominoTiles)
-            {
-                // Set each tile to its new rotated position
-                tile.setX(tileVectors[listIndex][0]);
-                tile.setY(tileVectors[listIndex][1]);
-
-                // If any of the tiles have been rotated off the board, get the distance between the furthest one and the board
-                if (tile.getX() < Constants.GAMEBOARD_STARTING_X)
-                    xOffset = Constants.GAMEBOARD_STARTING_X - tile.getX();
-                else if (tile.getX() > Constants.GAMEBOARD_ENDING_X)
-                    xOffset = Constants.GAMEBOARD_ENDING_X - tile.getX();
-                else if (tile.getY() < Constants.GAMEBOARD_STARTING_Y)
-                    yOffset = Constants.GAMEBOARD_STARTING_Y - tile.getY();
-                else if (tile.getY() > Constants.GAMEBOARD_ENDING_Y)
-                    yOffset = Constants.GAMEBOARD_ENDING_Y - tile.getY();
-
-                listIndex++;
-            }
+        if (tetrominoType == TileType.O_TET)
+            return false;
 
-            // Add the distance between the furthest tile away from the board and the board to each tile
-            for (Tile tile : tetrominoTiles)
-            {
-                tile.setX(tile.getX() + xOffset);
-                tile.setY(tile.getY() + yOffset);
-            }
+        int kickDirection = dir == Direction.RIGHT ? 0 : 1;
+        int newRotation = dir == Direction.RIGHT ? (rotation + 1) % NUM_OF_ROTATIONS : (rotation + NUM_OF_ROTATIONS - 1) % NUM_OF_ROTATIONS;
+        int[][] kicks = tetrominoType == TileType.I_TET ? I_KICKS[rotation][kickDirection] : JLSTZ_KICKS[rotation][kickDirection];
 
-            xOffset = 0;
-            yOffset = 0;
-
-            boolean isRotationIllegal = false;
-
-            // If the rotation results in a collision with a placed Tile, move the Tetromino over accordingly.
-            // checkForCollision method
-            for (Tile tile : tetrominoTiles)
+        for (int[] kick : kicks)
+        {
+            if (!collides(row - kick[1], col + kick[0], newRotation, gameData))
             {
-                row = Helper.getRow(tile);
-                col = Helper.getCol(tile);
-
-                if (boardTiles[row][col].getIsPlacedTetrominoTile())
-                {
-                    // get direction of axis tile
-                    switch (tetrominoType)
-                    {
-                        case T_TET, J_TET, Z_TET, L_TET ->
-                        {
-                            xDifference = tetrominoTiles[2].getX() - tile.getX();
-                            yDifference = tetrominoTiles[2].getY() - tile.getY();
-                        }
-                        case S_TET ->
-                        {
-                            xDifference = tetrominoTiles[3].getX() - tile.getX();
-                            yDifference = tetrominoTiles[3].getY() - tile.getY();
-                        }
-                        case I_TET ->
-                        {
-                            xDifference = tetrominoTiles[1].getX() - tile.getX();
-                            yDifference = tetrominoTiles[1].getY() - tile.getY();
-                        }
-                    }
-
-                    if (xDifference != -yDifference)
-                    {
-                        if (xDifference < 0)
-                            xOffset += -tileSize;
-                        else if (xDifference > 0)
-                            xOffset += tileSize;
-                        else if (yDifference < 0)
-                            yOffset += -tileSize;
-                        else yOffset += tileSize;
-                    }
-                }
+                row -= kick[1];
+                col += kick[0];
+                rotation = newRotation;
+                return true;
             }
+        }
 
-            // If rotation results in Tetromino leaving the game board boundaries, move it accordingly.
-            // checkForOutOfBounds method
-            for (Tile tile : tetrominoTiles)
-            {
-                tile.setX(tile.getX() + xOffset);
-                tile.setY(tile.getY() + yOffset);
+        return false;
+    }
 
-                if (tile.getX() < Constants.GAMEBOARD_STARTING_X || tile.getX() > Constants.GAMEBOARD_ENDING_X || tile.getY() < Constants.GAMEBOARD_STARTING_Y || tile.getY() > Constants.GAMEBOARD_ENDING_Y)
-                    isRotationIllegal = true;
-                else
-                {
-                    row = Helper.getRow(tile);
-                    col = Helper.getCol(tile);
+    /**
+     * Check whether the Tetromino would collide with a border or placed Tile at the given position and rotation.
+     * @param testRow Row of the bounding box to test.
+     * @param testCol Column of the bounding box to test.
+     * @param testRotation Rotation state to test.
+     * @param gameData Game data - used to check for placed Tiles.
+     * @return Whether any Tile would collide.
+     */
+    private boolean collides(int testRow, int testCol, int testRotation, GameData gameData)
+    {
+        return gameData.collides(ROW_MASKS[typeIndex][testRotation], testRow, testCol);
+    }
 
-                    if (boardTiles[row][col].getIsPlacedTetrominoTile())
-                        isRotationIllegal = true;
-                }
-            }
+    /**
+     * @param gameData Game data - used to check for placed Tiles.
+     * @return The number of rows the Tetromino can drop before it lands.
+     */
+    public int getDropDistance(GameData gameData)
+    {
+        int rowsToDrop = Integer.MAX_VALUE;
 
-            // If rotation was illegal, then reset Tetromino back to its initial position.
-            if (isRotationIllegal)
-            {
-                int index = 0;
+        for (int tile = 0; tile < NUM_OF_TILES; tile++)
+            rowsToDrop = Math.min(rowsToDrop, gameData.getRowsToDrop(getTileRow(tile), getTileCol(tile)));
 
-                for (Tile tile : tetrominoTiles)
-                {
-                    tile.setX(initial_x_positions[index]);
-                    tile.setY(initial_y_positions[index]);
-                    index++;
-                }
-            }
-        }
+        return rowsToDrop;
     }
 
     /**
@@ -406,52 +269,21 @@ public class Tetromino
     public void setTetrominoType(TileType newType)
     {
         tetrominoType = newType;
+
+        for (int type = 0; type < TYPES.length; type++)
+        {
+            if (TYPES[type] == newType)
+                typeIndex = type;
+        }
     }
 
     /**
-     * Generate a random TileType and assign the Tetromino to that new type.
-     * @return
+     * @param typeIndex The index of a Tetromino type, from 0 to 6.
+     * @return The TileType at that index, in the order T, J, Z, O, S, L, I.
      */
-    public TileType generateNewType()
+    public static TileType getTypeAt(int typeIndex)
     {
-        Random rand = new Random();
-
-        switch (rand.nextInt(7))
-        {
-            case 0 ->
-            {
-                return TileType.T_TET;
-            }
-
-            case 1 ->
-            {
-                return TileType.J_TET;
-            }
-            case 2 ->
-            {
-                return TileType.Z_TET;
-            }
-            case 3 ->
-            {
-                return TileType.O_TET;
-            }
-            case 4 ->
-            {
-                return TileType.S_TET;
-            }
-            case 5 ->
-            {
-                return TileType.L_TET;
-            }
-            case 6 ->
-            {
-                return TileType.I_TET;
-            }
-            default ->
-            {
-                return null;
-            }
-        }
+        return TYPES[typeIndex];
     }
 
     /**
@@ -463,11 +295,54 @@ public class Tetromino
     }
 
     /**
-     * @return The Tetromino's Tile array.
+     * @param tile Index of the Tile, from 0 to NUM_OF_TILES - 1.
+     * @return The row of the Tile.
+     */
+    public int getTileRow(int tile)
+    {
+        return row + ROW_OFFSETS[typeIndex][rotation][tile];
+    }
+
+    /**
+     * @param tile Index of the Tile, from 0 to NUM_OF_TILES - 1.
+     * @return The column of the Tile.
+     */
+    public int getTileCol(int tile)
+    {
+        return col + COL_OFFSETS[typeIndex][rotation][tile];
+    }
+
+    /**
+     * @return The index of the Tetromino's type, from 0 to 6, in the order T, J, Z, O, S, L, I.
+     */
+    public int getTypeIndex()
+    {
+        return typeIndex;
+    }
+
+    /**
+     * @return The current rotation state, 0 to 3, clockwise from spawn.
+     */
+    public int getRotation()
+    {
+        return rotation;
+    }
+
+    /**
+     * Set whether the Tetromino has landed.
+     * @param status Boolean indicating whether the Tetromino has landed or not.
+     */
+    public void setIsPlaced(boolean status)
+    {
+        isPlaced = status;
+    }
+
+    /**
+     * @return Whether the Tetromino has landed.
      */
-    public Tile[] getTiles()
+    public boolean getIsPlaced()
     {
-        return tetrominoTiles;
+        return isPlaced;
     }
 
     /**
@@ -478,6 +353,15 @@ public class Tetromino
         rowsSoftDropped++;
     }
 
+    /**
+     * Increase number of rows soft dropped by more than one, for drops of several rows at once.
+     * @param rows The number of rows soft dropped.
+     */
+    public void incrementRowsSoftDropped(int rows)
+    {
+        rowsSoftDropped += rows;
+    }
+
     /**
      * @return Number of rows soft dropped
      */
@@ -489,49 +373,13 @@ public class Tetromino
     /**
      * Calculate distance to Tetromino placement location, move the Tetromino to that position, and increment the number
        of rows on the game board that were hard dropped.
-     * @param boardTiles Game board Tiles.
+     * @param gameData Game data - used to determine placement location.
      */
-    public void incrementRowsHardDropped(Tile[][] boardTiles)
+    public void incrementRowsHardDropped(GameData gameData)
     {
-        // Create lists to store the y-position of each tile before and after hard dropping, as well as a list to store the distance
-        // from each tile to either the bottom of the board or the closest placed tile on the board.
-        int[] preDropTileRows = new int[tetrominoTiles.length];
-        int[] postDropTileRows = new int[tetrominoTiles.length];
-
-        // Get the row of each tetromino tile.
-        int index = 0;
-        for (Tile tile : tetrominoTiles)
-        {
-            preDropTileRows[index] = Helper.getRow(tile);
-            index++;
-        }
-
-        // Sort current rows into descending order to get the largest row first.
-        Helper.sortDescending(preDropTileRows);
-
-        // Calculate the distance to placement for the tetromino.
-        distanceToPlacement = Helper.getTetrominoDropDistance(tetrominoTiles, boardTiles);
-
-        // Get the row of the placement location for each tetromino tile.
-        index = 0;
-        for (Tile tile : tetrominoTiles)
-        {
-            postDropTileRows[index] = Helper.getRow(tile, distanceToPlacement);
-            index++;
-        }
-
-        // Sort placement location rows into descending order so we have the largest first.
-        Helper.sortDescending(postDropTileRows);
-
-        // Add the distance to placement to each tetromino tile.
-        for (Tile tile : tetrominoTiles)
-        {
-            if (distanceToPlacement >= Constants.TILE_SIZE)
-                tile.setY(tile.getY() + distanceToPlacement);
-        }
-
-        // Calculate rows hard dropped.
-        rowsHardDropped = postDropTileRows[0] - preDropTileRows[0];
+        distanceToPlacement = getDropDistance(gameData);
+        row += distanceToPlacement;
+        rowsHardDropped = distanceToPlacement;
     }
 
     /**
@@ -559,67 +407,6 @@ public class Tetromino
         return movedOutOfBounds;
     }
 
-    private void assembleMatrix(String matrixType)
-    {
-        int offset;
-
-        if (matrixType.equals("t"))
-            offset = -1;
-        else
-            offset = 1;
-
-        switch (tetrominoType)
-        {
-            case T_TET, J_TET, L_TET, Z_TET -> matrix = new int[][]{
-                    {1, 0, offset * tetrominoTiles[2].getX()},
-                    {0, 1, offset * tetrominoTiles[2].getY()},
-                    {0, 0, 1}
-            };
-            case S_TET -> matrix = new int[][]{
-                    {1, 0, offset * tetrominoTiles[3].getX()},
-                    {0, 1, offset * tetrominoTiles[3].getY()},
-                    {0, 0, 1}
-            };
-            case I_TET -> matrix = new int[][]{
-                    {1, 0, offset * tetrominoTiles[1].getX()},
-                    {0, 1, offset * tetrominoTiles[1].getY()},
-                    {0, 0, 1}
-            };
-        }
-    }
-
-    private void assembleMatrix(Direction dir)
-    {
-        switch (dir)
-        {
-            case LEFT -> matrix = new int[][]{
-                    {(int)Math.round(Math.cos(Math.PI / 2)), (int)Math.round(Math.sin(Math.PI / 2)), 0},
-                    {-(int)Math.round(Math.sin(Math.PI / 2)), (int)Math.round(Math.cos(Math.PI / 2)), 0},
-                    {0, 0, 1}
-            };
-            case RIGHT -> matrix = new int[][]{
-                    {(int)Math.round(Math.cos(Math.PI / 2)), -(int)Math.round(Math.sin(Math.PI / 2)), 0},
-                    {(int)Math.round(Math.sin(Math.PI / 2)), (int)Math.round(Math.cos(Math.PI / 2)), 0},
-                    {0, 0, 1}
-            };
-        }
-    }
-
-    private void reassignVectors()
-    {
-        int i = 0;
-
-        for (int[] vector : tileVectors)
-        {
-            int[] newVector = new int[3];
-            newVector[0] = vector[0] * matrix[0][0] + vector[1] * matrix[0][1] + vector[2] * matrix[0][2];
-            newVector[1] = vector[0] * matrix[1][0] + vector[1] * matrix[1][1] + vector[2] * matrix[1][2];
-            newVector[2] = vector[0] * matrix[2][0] + vector[1] * matrix[2][1] + vector[2] * matrix[2][2];
-            tileVectors[i] = newVector;
-            i++;
-        }
-    }
-
     public int getDistanceToPlacement()
     {
         return distanceToPlacement;
@@ -0,0 +1,88 @@
+package com.example.tetris_clone;
+
+/**
+ * This class turns the timestamps of rendered frames into a whole number of fixed-length logic ticks.
+ * Elapsed time is added to an accumulator and spent one tick at a time, so the game runs at exactly 'ticksPerSecond'
+   no matter how often frames are rendered. Time is kept in whole nanoseconds scaled by the tick rate, so no rounding
+   error builds up even when a tick is not a whole number of nanoseconds.
+ * After a stall, at most 'maxCatchUpTicks' ticks are run at once and the rest of the stall is dropped, so a long hitch
+   slows the game down briefly instead of making it jump ahead.
+ */
+
+public class TickScheduler
+{
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int ticksPerSecond;                   // The fixed logic rate.
+    private final int maxCatchUpTicks;                  // The most ticks that are run for a single frame.
+    private long lastFrameTime;                         // The timestamp of the previous frame, in nanoseconds.
+    private long accumulator;                           // Unspent time, in nanoseconds times 'ticksPerSecond'.
+    private boolean isStarted;                          // Has the first frame been seen or not
+    private long tickCount;                             // The number of ticks run since the scheduler was created.
+
+    /**
+     * @param newTicksPerSecond The fixed logic rate.
+     * @param newMaxCatchUpTicks The most ticks that are run for a single frame.
+     */
+    public TickScheduler(int newTicksPerSecond, int newMaxCatchUpTicks)
+    {
+        if (newTicksPerSecond < 1 || newMaxCatchUpTicks < 1)
+            throw new IllegalArgumentException("Tick rate and catch-up limit must be at least 1: " + newTicksPerSecond + ", " + newMaxCatchUpTicks);
+
+        ticksPerSecond = newTicksPerSecond;
+        maxCatchUpTicks = newMaxCatchUpTicks;
+    }
+
+    /**
+     * Work out how many ticks are due at the time of a new frame.
+     * @param now The timestamp of the frame, in nanoseconds.
+     * @return The number of ticks to run before the frame is rendered, from 0 to 'maxCatchUpTicks'.
+     */
+    public int advance(long now)
+    {
+        if (!isStarted)
+        {
+            lastFrameTime = now;
+            isStarted = true;
+            return 0;
+        }
+
+        accumulator += Math.max(0, now - lastFrameTime) * ticksPerSecond;
+        lastFrameTime = now;
+
+        long dueTicks = accumulator / NANOS_PER_SECOND;
+
+        if (dueTicks > maxCatchUpTicks)
+        {
+            // Drop the whole ticks that are over the limit, but keep the partial tick so the phase doesn't jump.
+            dueTicks = maxCatchUpTicks;
+            accumulator %= NANOS_PER_SECOND;
+        }
+        else
+            accumulator -= dueTicks * NANOS_PER_SECOND;
+
+        tickCount += dueTicks;
+
+        return (int) dueTicks;
+    }
+
+    /**
+     * Work out when one of the ticks returned by the last advance() call was due. The last of them was due when the
+       time left in the accumulator started, and each one before it a tick length earlier.
+     * @param tick The index of the tick, from 0 to the number of ticks returned minus 1.
+     * @param dueTicks The number of ticks returned by the last advance() call.
+     * @return The timestamp that the tick was due at, in nanoseconds.
+     */
+    public long getTickTime(int tick, int dueTicks)
+    {
+        return lastFrameTime - (accumulator + (dueTicks - 1 - tick) * NANOS_PER_SECOND) / ticksPerSecond;
+    }
+
+    /**
+     * @return The number of ticks run since the scheduler was created.
+     */
+    public long getTickCount()
+    {
+        return tickCount;
+    }
+}
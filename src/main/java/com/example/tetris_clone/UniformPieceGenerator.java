@@ -0,0 +1,27 @@
+package com.example.tetris_clone;
+
+/**
+ * This class chooses every Tetromino type independently and with equal chance.
+ */
+
+public class UniformPieceGenerator extends QueuedPieceGenerator
+{
+    /**
+     * @param queueSize How many pieces ahead peek() can look.
+     */
+    public UniformPieceGenerator(int queueSize)
+    {
+        super(queueSize);
+    }
+
+    @Override
+    protected void restart()
+    {
+    }
+
+    @Override
+    protected TileType generate()
+    {
+        return Tetromino.getTypeAt(random.nextInt(Constants.NUM_OF_TETROMINOS));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.tetris_clone;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class contains the random keys used to build 64-bit Zobrist hashes of game states.
+ * The keys come from a fixed seed, so the same state always has the same hash, even across runs.
+ * The board part of the hash is kept up to date by GameData. It is the sum of each row's hash times a random odd weight
+   for that row, where a row's hash is the XOR of a key for each of its placed Tiles' columns. The weights are odd so
+   that multiplying by one never shifts any of a row hash's bits out of the 64-bit sum. Placing or clearing a
+   Tile only changes one row's hash, and moving a row during a line clear only swaps which weight its hash is multiplied by.
+ */
+
+public class Zobrist
+{
+    private static final long SEED = 0x7E7215C10E5EEDL;    // Fixed seed for every key.
+    private static final int NUM_OF_TYPES = Constants.NUM_OF_TETROMINOS;
+    private static final int NUM_OF_ROTATIONS = 4;
+
+    // Keys for the current Tetromino, indexed by [type][rotation], and for the next Tetromino, indexed by [type].
+    private static final long[][] CURRENT_PIECE_KEYS = new long[NUM_OF_TYPES][NUM_OF_ROTATIONS];
+    private static final long[] NEXT_PIECE_KEYS = new long[NUM_OF_TYPES];
+
+    // Each set of keys has its own stream, so adding keys to one set never changes the keys of another.
+    private static final long COLUMN_KEY_STREAM = 1;
+    private static final long ROW_WEIGHT_STREAM = 2;
+    private static final long PIECE_KEY_STREAM = 3;
+
+    static
+    {
+        SplittableRandom random = new SplittableRandom(SEED + PIECE_KEY_STREAM);
+
+        for (int type = 0; type < NUM_OF_TYPES; type++)
+        {
+            for (int rotation = 0; rotation < NUM_OF_ROTATIONS; rotation++)
+                CURRENT_PIECE_KEYS[type][rotation] = random.nextLong();
+
+            NEXT_PIECE_KEYS[type] = random.nextLong();
+        }
+    }
+
+    /**
+     * @param cols The number of columns in the game board.
+     * @return A key for each column of a game board row.
+     */
+    public static long[] createColumnKeys(int cols)
+    {
+        return createKeys(cols, COLUMN_KEY_STREAM);
+    }
+
+    /**
+     * @param rows The number of rows in the game board.
+     * @return An odd weight for each row of a game board.
+     */
+    public static long[] createRowWeights(int rows)
+    {
+        long[] weights = createKeys(rows, ROW_WEIGHT_STREAM);
+
+        for (int row = 0; row < rows; row++)
+            weights[row] |= 1;
+
+        return weights;
+    }
+
+    /**
+     * @param count The number of keys to create.
+     * @param stream The stream that the keys come from.
+     * @return The keys.
+     */
+    private static long[] createKeys(int count, long stream)
+    {
+        SplittableRandom random = new SplittableRandom(SEED + stream);
+        long[] keys = new long[count];
+
+        for (int index = 0; index < count; index++)
+            keys[index] = random.nextLong();
+
+        return keys;
+    }
+
+    /**
+     * @param currentTetromino The current Tetromino.
+     * @param nextTetromino The next Tetromino.
+     * @return The part of the hash that covers the current Tetromino's type and rotation and the next Tetromino's type.
+     */
+    public static long getPieceHash(Tetromino currentTetromino, Tetromino nextTetromino)
+    {
+        return CURRENT_PIECE_KEYS[currentTetromino.getTypeIndex()][currentTetromino.getRotation()] ^ NEXT_PIECE_KEYS[nextTetromino.getTypeIndex()];
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.tetris_clone;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the column heights kept by GameData, and the drop distances worked out from them, against a plain scan of the
+   game board, on random stacks with holes and overhangs.
+ */
+
+class GameDataSkylineTest
+{
+    private static final int NUM_OF_BOARDS = 500;
+    private static final TileType[] TETROMINO_TYPES = {TileType.T_TET, TileType.J_TET, TileType.Z_TET, TileType.O_TET,
+                                                       TileType.S_TET, TileType.L_TET, TileType.I_TET};
+
+    @Test
+    void rowsToDropMatchesScan()
+    {
+        SplittableRandom random = new SplittableRandom(2);
+
+        for (int board = 0; board < NUM_OF_BOARDS; board++)
+        {
+            GameData gameData = createRandomStack(random);
+
+            for (int row = 0; row < gameData.getRows(); row++)
+            {
+                for (int col = 0; col < gameData.getCols(); col++)
+                {
+                    if (!gameData.isOccupied(row, col))
+                        assertEquals(scanRowsToDrop(gameData, row, col), gameData.getRowsToDrop(row, col), "Rows to drop from " + row + ", " + col);
+                }
+            }
+        }
+    }
+
+    @Test
+    void dropDistanceMatchesScan()
+    {
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int board = 0; board < NUM_OF_BOARDS; board++)
+        {
+            GameData gameData = createRandomStack(random);
+            Tetromino tetromino = new Tetromino(TETROMINO_TYPES[random.nextInt(TETROMINO_TYPES.length)]);
+
+            for (int attempt = 0; attempt < 20; attempt++)
+            {
+                tetromino.resetTetromino(random.nextInt(gameData.getRows()), random.nextInt(gameData.getCols()));
+
+                for (int turn = random.nextInt(4); turn > 0; turn--)
+                    tetromino.rotate(Direction.RIGHT, gameData);
+
+                if (!fits(gameData, tetromino, 0))
+                    continue;
+
+                int rowsToDrop = 0;
+
+                while (fits(gameData, tetromino, rowsToDrop + 1))
+                    rowsToDrop++;
+
+                assertEquals(rowsToDrop, tetromino.getDropDistance(gameData), "Drop distance of " + tetromino.getTetrominoType());
+            }
+        }
+    }
+
+    @Test
+    void columnHeightsMatchScanAfterClearingRows()
+    {
+        SplittableRandom random = new SplittableRandom(4);
+
+        for (int board = 0; board < NUM_OF_BOARDS; board++)
+        {
+            GameData gameData = createRandomStack(random);
+
+            // Fill some rows, so that there is something to clear.
+            for (int fills = random.nextInt(4); fills > 0; fills--)
+            {
+                int row = gameData.getRows() - 1 - random.nextInt(gameData.getRows() / 2);
+
+                for (int col = 0; col < gameData.getCols(); col++)
+                    gameData.placeTile(row, col, TileType.I_TET);
+            }
+
+            gameData.clearFullRows();
+
+            for (int col = 0; col < gameData.getCols(); col++)
+                assertEquals(scanColumnHeight(gameData, col), gameData.getColumnHeight(col), "Height of column " + col);
+        }
+    }
+
+    /**
+     * @param random The random stream to build the stack from.
+     * @return A game board with a random stack that thins out towards the top, so it has holes and overhangs.
+     */
+    private static GameData createRandomStack(SplittableRandom random)
+    {
+        GameData gameData = new GameData();
+        int rows = gameData.getRows();
+        int stackHeight = random.nextInt(rows);
+
+        for (int row = rows - 1; row >= rows - stackHeight; row--)
+        {
+            for (int col = 0; col < gameData.getCols(); col++)
+            {
+                if (random.nextInt(rows) < rows - row + 4)
+                    gameData.placeTile(row, col, TETROMINO_TYPES[random.nextInt(TETROMINO_TYPES.length)]);
+            }
+        }
+
+        // Clearing Tiles from the middle of the stack leaves overhangs and lowers some column tops.
+        for (int clears = random.nextInt(10); clears > 0; clears--)
+            gameData.clearTile(random.nextInt(rows), random.nextInt(gameData.getCols()));
+
+        return gameData;
+    }
+
+    /**
+     * @return The number of empty cells straight below a cell, before a placed Tile or the bottom of the game board.
+     */
+    private static int scanRowsToDrop(GameData gameData, int row, int col)
+    {
+        int rowsToDrop = 0;
+
+        while (row + rowsToDrop + 1 < gameData.getRows() && !gameData.isOccupied(row + rowsToDrop + 1, col))
+            rowsToDrop++;
+
+        return rowsToDrop;
+    }
+
+    /**
+     * @return The height of the highest placed Tile in a column, in rows from the bottom, or 0 if it is empty.
+     */
+    private static int scanColumnHeight(GameData gameData, int col)
+    {
+        for (int row = 0; row < gameData.getRows(); row++)
+        {
+            if (gameData.isOccupied(row, col))
+                return gameData.getRows() - row;
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return Whether every Tile of the Tetromino, moved down 'rowsDown' rows, is on the game board and on an empty cell.
+     */
+    private static boolean fits(GameData gameData, Tetromino tetromino, int rowsDown)
+    {
+        for (int tile = 0; tile < Tetromino.NUM_OF_TILES; tile++)
+        {
+            int row = tetromino.getTileRow(tile) + rowsDown;
+            int col = tetromino.getTileCol(tile);
+
+            if (row < 0 || row >= gameData.getRows() || col < 0 || col >= gameData.getCols() || gameData.isOccupied(row, col))
+                return false;
+        }
+
+        return true;
+    }
+}
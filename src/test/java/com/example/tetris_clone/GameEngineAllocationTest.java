@@ -0,0 +1,97 @@
+package com.example.tetris_clone;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the gameplay hot path - GameEngine.step() - allocates nothing once the engine is warmed up.
+ * Starting a game allocates its random streams, so games are restarted between measured runs of steps.
+ */
+
+class GameEngineAllocationTest
+{
+    private static final int MEASURED_TICKS = 10_000;
+    private static final int WARM_UP_TICKS = 200_000;
+
+    private final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void steadyStateTicksAllocateNothing()
+    {
+        assertTrue(threadBean.isThreadAllocatedMemorySupported(), "Thread allocation counting is not supported by this JVM");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        GameEngine engine = new GameEngine();
+        int[] inputs = createInputs(MEASURED_TICKS);
+
+        runTicks(engine, inputs, WARM_UP_TICKS);
+
+        assertEquals(0, runTicks(engine, inputs, MEASURED_TICKS), "Bytes allocated by " + MEASURED_TICKS + " ticks");
+    }
+
+    /**
+     * Step the engine, starting a new game whenever one ends.
+     * @param engine The engine to step.
+     * @param inputs The inputs to step with, repeated as needed.
+     * @param ticks The number of steps to run.
+     * @return The bytes allocated by the steps, not counting the game restarts.
+     */
+    private long runTicks(GameEngine engine, int[] inputs, int ticks)
+    {
+        long allocatedBytes = 0;
+        long seed = 0;
+        int tick = 0;
+
+        engine.startNewGame(seed++);
+
+        while (tick < ticks)
+        {
+            long startBytes = threadBean.getCurrentThreadAllocatedBytes();
+
+            while (tick < ticks && !engine.isGameOver())
+            {
+                engine.step(inputs[tick % inputs.length]);
+                tick++;
+            }
+
+            allocatedBytes += threadBean.getCurrentThreadAllocatedBytes() - startBytes;
+
+            if (engine.isGameOver())
+                engine.startNewGame(seed++);
+        }
+
+        return allocatedBytes;
+    }
+
+    /**
+     * @param count The number of inputs.
+     * @return A mix of moves, rotations, soft drops, hard drops and idle frames.
+     */
+    private static int[] createInputs(int count)
+    {
+        SplittableRandom random = new SplittableRandom(1);
+        int[] inputs = new int[count];
+
+        for (int tick = 0; tick < count; tick++)
+        {
+            switch (random.nextInt(10))
+            {
+                case 0 -> inputs[tick] = GameEngine.INPUT_MOVE_LEFT;
+                case 1 -> inputs[tick] = GameEngine.INPUT_MOVE_RIGHT;
+                case 2 -> inputs[tick] = GameEngine.INPUT_ROTATE_LEFT;
+                case 3 -> inputs[tick] = GameEngine.INPUT_ROTATE_RIGHT | GameEngine.INPUT_SOFT_DROP;
+                case 4 -> inputs[tick] = GameEngine.INPUT_SOFT_DROP;
+                case 5 -> inputs[tick] = random.nextInt(8) == 0 ? GameEngine.INPUT_HARD_DROP : 0;
+                default -> inputs[tick] = 0;
+            }
+        }
+
+        return inputs;
+    }
+}
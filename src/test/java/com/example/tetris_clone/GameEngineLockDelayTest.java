@@ -0,0 +1,64 @@
+package com.example.tetris_clone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that lock delay resets can't keep a Tetromino from locking, whether it is moved along the stack or lifted off
+   it and left to land again.
+ */
+
+class GameEngineLockDelayTest
+{
+    // Every reset used, a full lock delay, and one drop at level 0 gravity to land after the last lift.
+    private static final int MAX_TICKS_TO_LOCK = 2 * Constants.LOCK_DELAY_RESET_LIMIT + Constants.DELAY_FRAME_COUNT + GameEngine.getGravityFrameCount(0);
+
+    private int piecesSpawned;                  // PIECE_SPAWNED events since the engine was created.
+
+    @Test
+    void rotatingOnAndOffTheFloorLocks()
+    {
+        // Rotating the landed T back to its spawn rotation lifts it a row, so it falls and lands again every other tick.
+        assertTrue(ticksToLock(GameEngine.INPUT_ROTATE_RIGHT, GameEngine.INPUT_ROTATE_LEFT) <= MAX_TICKS_TO_LOCK, "Ticks to lock");
+    }
+
+    @Test
+    void movingAlongTheFloorLocks()
+    {
+        assertTrue(ticksToLock(GameEngine.INPUT_MOVE_LEFT, GameEngine.INPUT_MOVE_RIGHT) <= MAX_TICKS_TO_LOCK, "Ticks to lock");
+    }
+
+    /**
+     * Soft drop the first Tetromino of a game onto the floor, and then alternate two inputs every tick until it locks.
+     * @param firstInputs The INPUT_ flags of even ticks.
+     * @param secondInputs The INPUT_ flags of odd ticks.
+     * @return The ticks from landing until the next Tetromino spawned, or MAX_TICKS_TO_LOCK * 10 if it didn't.
+     */
+    private int ticksToLock(int firstInputs, int secondInputs)
+    {
+        GameEngine engine = new GameEngine();
+        engine.setEventListener((event, value) ->
+        {
+            if (event == GameEvent.PIECE_SPAWNED)
+                piecesSpawned++;
+        });
+        engine.startNewGame(0);
+        assertEquals(TileType.T_TET, engine.getCurrentTetromino().getTetrominoType(), "First Tetromino of seed 0");
+
+        while (!engine.isDelayActive())
+            engine.step(GameEngine.INPUT_SOFT_DROP);
+
+        int spawnsBeforeLock = piecesSpawned;
+        int tick = 0;
+
+        while (piecesSpawned == spawnsBeforeLock && tick < MAX_TICKS_TO_LOCK * 10)
+        {
+            engine.step(tick % 2 == 0 ? firstInputs : secondInputs);
+            tick++;
+        }
+
+        return tick;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.tetris_clone;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the board hash that GameData keeps up to date incrementally against a hash computed from scratch, as Tetrominos
+   lock, rows clear, and snapshots are restored.
+ */
+
+class ZobristHashTest
+{
+    private static final int NUM_OF_GAMES = 50;
+    private static final int NUM_OF_BOARDS = 500;
+
+    @Test
+    void rowWeightsAreOdd()
+    {
+        for (long weight : Zobrist.createRowWeights(Constants.GAMEBOARD_ROWS))
+            assertEquals(1, weight & 1, "Row weight " + Long.toHexString(weight));
+    }
+
+    @Test
+    void stateHashBeforeFirstGameIsBoardHash()
+    {
+        GameData gameData = new GameData();
+        GameEngine engine = new GameEngine(gameData);
+
+        assertEquals(gameData.getBoardHash(), engine.getStateHash(), "State hash before the first game");
+
+        engine.startNewGame(0);
+        assertEquals(gameData.getBoardHash() ^ Zobrist.getPieceHash(engine.getCurrentTetromino(), engine.getNextTetromino()),
+                engine.getStateHash(), "State hash after starting a game");
+    }
+
+    @Test
+    void hashMatchesAfterLocksAndRestores()
+    {
+        SplittableRandom random = new SplittableRandom(5);
+        GameData gameData = new GameData();
+        GameEngine engine = new GameEngine(gameData);
+        int restores = 0;
+
+        for (int game = 0; game < NUM_OF_GAMES; game++)
+        {
+            List<BoardSnapshot> snapshots = new ArrayList<>();
+            List<Long> snapshotHashes = new ArrayList<>();
+            engine.startNewGame(game);
+
+            while (!engine.isGameOver())
+            {
+                int inputs = switch (random.nextInt(6))
+                {
+                    case 0 -> GameEngine.INPUT_MOVE_LEFT;
+                    case 1 -> GameEngine.INPUT_MOVE_RIGHT;
+                    case 2 -> GameEngine.INPUT_ROTATE_RIGHT;
+                    case 3 -> GameEngine.INPUT_HARD_DROP;
+                    default -> 0;
+                };
+
+                engine.step(inputs);
+                assertEquals(computeBoardHash(gameData), gameData.getBoardHash(), "Board hash after a step");
+
+                if (random.nextInt(50) == 0)
+                {
+                    snapshots.add(gameData.snapshot());
+                    snapshotHashes.add(gameData.getBoardHash());
+                }
+            }
+
+            // Restore the snapshots out of order, so that each restore changes many rows at once.
+            for (int index = snapshots.size() - 1; index >= 0; index -= 2)
+            {
+                gameData.restore(snapshots.get(index));
+                assertEquals(computeBoardHash(gameData), gameData.getBoardHash(), "Board hash after a restore");
+                assertEquals(snapshotHashes.get(index), gameData.getBoardHash(), "Board hash when the snapshot was taken");
+                restores++;
+            }
+        }
+
+        assertTrue(restores > 0, "No snapshots were restored");
+    }
+
+    @Test
+    void hashMatchesAfterClearingRows()
+    {
+        SplittableRandom random = new SplittableRandom(6);
+        int clearedRows = 0;
+
+        for (int board = 0; board < NUM_OF_BOARDS; board++)
+        {
+            GameData gameData = new GameData();
+            int rows = gameData.getRows();
+
+            // A random stack with some full rows in it, so clearing moves the rows above them down.
+            for (int row = rows - 1 - random.nextInt(rows / 2); row < rows; row++)
+            {
+                boolean full = random.nextInt(3) == 0;
+
+                for (int col = 0; col < gameData.getCols(); col++)
+                {
+                    if (full || random.nextInt(2) == 0)
+                        gameData.placeTile(row, col, TileType.T_TET);
+                }
+            }
+
+            assertEquals(computeBoardHash(gameData), gameData.getBoardHash(), "Board hash after placing Tiles");
+            clearedRows += gameData.clearFullRows();
+            assertEquals(computeBoardHash(gameData), gameData.getBoardHash(), "Board hash after clearing rows");
+        }
+
+        assertTrue(clearedRows > 0, "No rows were cleared");
+    }
+
+    /**
+     * @param gameData The game data to hash.
+     * @return The board hash computed from scratch from the placed Tiles.
+     */
+    private static long computeBoardHash(GameData gameData)
+    {
+        long[] columnKeys = Zobrist.createColumnKeys(gameData.getCols());
+        long[] rowWeights = Zobrist.createRowWeights(gameData.getRows());
+        long boardHash = 0;
+
+        for (int row = 0; row < gameData.getRows(); row++)
+        {
+            long rowHash = 0;
+
+            for (int col = 0; col < gameData.getCols(); col++)
+            {
+                if (gameData.isOccupied(row, col))
+                    rowHash ^= columnKeys[col];
+            }
+
+            boardHash += rowHash * rowWeights[row];
+        }
+
+        return boardHash;
+    }
+}